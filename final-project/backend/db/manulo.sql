@@ -137,3 +137,14 @@ TABLESPACE pg_default;
 
 ALTER TABLE IF EXISTS public.langchain_pg_embedding
     OWNER to postgres;
+
+-- 제품 PDF 내용 해시 (동일 설명서 재업로드 시 S3 객체/벡터스토어 재사용)
+ALTER TABLE product ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+CREATE INDEX IF NOT EXISTS idx_product_content_hash ON product (content_hash);
+
+-- 제품 인덱싱 완료 시각 (완료된 제품만 재사용/목록 노출, 기존 제품은 인덱싱된 것으로 간주)
+ALTER TABLE product ADD COLUMN IF NOT EXISTS indexed_at TIMESTAMP;
+UPDATE product SET indexed_at = created_at WHERE indexed_at IS NULL;
+
+-- 제품 목록 키셋 페이지네이션 (created_at DESC, product_id DESC)
+CREATE INDEX IF NOT EXISTS idx_product_created_at_id ON product (created_at, product_id);
@@ -0,0 +1,182 @@
+package com.gigigenie.security.filter;
+
+import com.gigigenie.domain.member.dto.MemberDTO;
+import com.gigigenie.domain.member.enums.MemberRole;
+import com.gigigenie.props.JwtProps;
+import com.gigigenie.security.PublicRoutes;
+import com.gigigenie.util.JWTUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 공개 경로 판별과 JWTCheckFilter 전체 처리: 변경 전(패턴별 매처 + 필터 내 equals/startsWith 체인, 요청마다 INFO
+ * 로그) vs 변경 후(컴파일된 {@link PublicRoutes} 공유, 카운터 + 샘플링 DEBUG 로그)
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=JWTCheckFilterBenchmark (로그는 build/results/jmh/benchmark.log)
+ */
+@State(Scope.Benchmark)
+public class JWTCheckFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {
+    };
+
+    // 정확한 공개 경로, 접두어 공개 경로, 인증이 필요한 경로(모든 패턴을 확인하는 최악의 경우)
+    @Param({"/api/product/list", "/swagger-ui/index.html", "/api/chat/ask"})
+    public String path;
+
+    private RequestMatcher legacyMatcher;
+    private JWTCheckFilter filter;
+    private LegacyJWTCheckFilter legacyFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        // 변경 전 SecurityConfig.permitAll(): 패턴마다 매처를 두고 순서대로 확인
+        legacyMatcher = new OrRequestMatcher(PublicRoutes.PATTERNS.stream()
+            .map(pattern -> (RequestMatcher) new AntPathRequestMatcher(pattern))
+            .toList());
+
+        JwtProps props = new JwtProps();
+        props.setSecretKey("benchmark-secret-key-0123456789abcdef0123456789");
+        JWTUtil jwtUtil = new JWTUtil(props);
+        jwtUtil.init();
+        String token = jwtUtil.generateToken(Map.of("id", 1, "email", "user@test.com",
+            "name", "user", "role", MemberRole.USER.name()), 60);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new JWTCheckFilter(jwtUtil, new VerifiedTokenCache(props, meterRegistry),
+            meterRegistry);
+        legacyFilter = new LegacyJWTCheckFilter(jwtUtil);
+
+        request = new MockHttpServletRequest("GET", path);
+        request.setCookies(new Cookie("accessToken", token));
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public boolean legacyPermitAllMatcher() {
+        return legacyMatcher.matches(request);
+    }
+
+    @Benchmark
+    public boolean sharedPublicRoutesMatcher() {
+        return PublicRoutes.MATCHER.matches(request);
+    }
+
+    @Benchmark
+    public int legacyFilter() throws ServletException, IOException {
+        legacyFilter.doFilter(request, response, NOOP_CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int currentFilter() throws ServletException, IOException {
+        filter.doFilter(request, response, NOOP_CHAIN);
+        return response.getStatus();
+    }
+
+    /**
+     * 변경 전 JWTCheckFilter (공개 경로 하드코딩, 요청마다 INFO 로그, 토큰 캐시 없이 매번 서명 검증과 MemberDTO 생성)
+     */
+    static class LegacyJWTCheckFilter extends OncePerRequestFilter {
+
+        private static final Logger log = LogManager.getLogger(LegacyJWTCheckFilter.class);
+
+        private static final List<String> EXACT = List.of("/api/member/login",
+            "/api/member/join", "/api/member/check-email", "/api/member/me",
+            "/api/member/refresh", "/api/oauth2/", "/oauth2/", "/login/oauth2/code/",
+            "/api/product/search", "/api/product/list", "/api/product/list/page");
+        private static final List<String> PREFIXES = List.of("/api/admin/member/login",
+            "/api/admin/member/join", "/api/admin/member/refresh", "/api/admin/member/logout",
+            "/swagger-ui/", "/v3/api-docs", "/h2-console", "/favicon.ico");
+
+        private final JWTUtil jwtUtil;
+
+        LegacyJWTCheckFilter(JWTUtil jwtUtil) {
+            this.jwtUtil = jwtUtil;
+        }
+
+        @Override
+        protected boolean shouldNotFilter(HttpServletRequest request) {
+            String path = request.getRequestURI();
+            log.info("check uri: " + path);
+
+            if (request.getMethod().equals("OPTIONS")) {
+                return true;
+            }
+            for (String exact : EXACT) {
+                if (path.equals(exact)) {
+                    return true;
+                }
+            }
+            for (String prefix : PREFIXES) {
+                if (path.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+            log.info("------------------JWTCheckFilter 시작------------------");
+
+            String accessToken = null;
+            for (Cookie cookie : request.getCookies()) {
+                if ("accessToken".equals(cookie.getName())) {
+                    accessToken = cookie.getValue();
+                    break;
+                }
+            }
+
+            Map<String, Object> claims = jwtUtil.validateToken(accessToken);
+            String role = (String) claims.get("role");
+            log.info("추출된 role: {}", role);
+
+            MemberDTO memberDTO = new MemberDTO((Integer) claims.get("id"),
+                (String) claims.get("email"), "", (String) claims.get("name"),
+                MemberRole.valueOf(role));
+            UsernamePasswordAuthenticationToken authenticationToken =
+                new UsernamePasswordAuthenticationToken(memberDTO, null,
+                    memberDTO.getAuthorities());
+            log.info("인증 토큰의 권한: {}", authenticationToken.getAuthorities());
+
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            log.info("SecurityContext에 인증 정보 설정 완료");
+
+            filterChain.doFilter(request, response);
+            log.info("------------------JWTCheckFilter 종료------------------");
+        }
+    }
+}
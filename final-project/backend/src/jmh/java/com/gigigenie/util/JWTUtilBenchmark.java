@@ -0,0 +1,68 @@
+package com.gigigenie.util;
+
+import com.gigigenie.props.JwtProps;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JWTUtil.validateToken: 호출마다 키/파서를 만들던 이전 방식 vs 시작 시 만든 파서 재사용
+ * <p>
+ * ./gradlew jmh -Pjmh.includes=JWTUtilBenchmark
+ */
+@State(Scope.Benchmark)
+public class JWTUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-0123456789abcdef0123456789";
+
+    private JWTUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProps props = new JwtProps();
+        props.setSecretKey(SECRET);
+        props.setKeyId("v1");
+        jwtUtil = new JWTUtil(props);
+        jwtUtil.init();
+        token = jwtUtil.generateToken(
+            Map.of("email", "user@test.com", "name", "user", "role", "USER"), 60);
+    }
+
+    // 변경 전: 검증할 때마다 HMAC 키 생성 + parserBuilder().build()
+    @Benchmark
+    public Claims perCallKeyDerivation() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+    }
+
+    // 변경 후: init()에서 만든 키와 파서 재사용 (kid로 키 선택)
+    @Benchmark
+    public Map<String, Object> cachedParser() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Claims perCallKeyDerivationContended() {
+        return perCallKeyDerivation();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<String, Object> cachedParserContended() {
+        return cachedParser();
+    }
+}
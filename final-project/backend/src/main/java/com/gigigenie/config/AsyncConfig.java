@@ -0,0 +1,101 @@
+package com.gigigenie.config;
+
+import com.gigigenie.props.PasswordProps;
+import com.gigigenie.props.ProductProps;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+@RequiredArgsConstructor
+public class AsyncConfig {
+
+    private final ProductProps productProps;
+    private final PasswordProps passwordProps;
+
+    // 제품 PDF 인덱싱 전용 스레드 풀 (대기열이 가득 차면 TaskRejectedException)
+    @Bean
+    public ThreadPoolTaskExecutor indexingExecutor() {
+        ProductProps.Indexing indexing = productProps.getIndexing();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("indexing-");
+        executor.setCorePoolSize(indexing.getCorePoolSize());
+        executor.setMaxPoolSize(indexing.getMaxPoolSize());
+        executor.setQueueCapacity(indexing.getQueueCapacity());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationMillis(indexing.getShutdownAwait().toMillis());
+        return executor;
+    }
+
+    // 업로드 요청 안의 S3 업로드/썸네일 생성 병렬 실행용 스레드 풀
+    @Bean
+    public ThreadPoolTaskExecutor uploadExecutor() {
+        ProductProps.Upload upload = productProps.getUpload();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("upload-");
+        executor.setCorePoolSize(upload.getCorePoolSize());
+        executor.setMaxPoolSize(upload.getMaxPoolSize());
+        executor.setQueueCapacity(upload.getQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // 이미지 디코딩/리사이즈 전용 CPU 풀 (동시에 메모리에 올라가는 원본 이미지 수를 제한)
+    @Bean
+    public ThreadPoolTaskExecutor imageExecutor() {
+        ProductProps.Thumbnail thumbnail = productProps.getThumbnail();
+        int threads = thumbnail.getDecodeThreads() > 0
+            ? thumbnail.getDecodeThreads() : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("image-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(thumbnail.getDecodeQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // 크기별 썸네일 S3 업로드용 풀 (uploadExecutor 작업이 기다리므로 별도 풀로 분리)
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailUploadExecutor() {
+        ProductProps.Thumbnail thumbnail = productProps.getThumbnail();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("thumbnail-upload-");
+        executor.setCorePoolSize(thumbnail.getUploadThreads());
+        executor.setMaxPoolSize(thumbnail.getUploadThreads());
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // S3 일괄 삭제 묶음 병렬 실행용 풀 (동시 multi-object delete 수 제한)
+    @Bean
+    public ThreadPoolTaskExecutor s3DeleteExecutor() {
+        int concurrency = productProps.getCleanup().getDeleteConcurrency();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("s3-delete-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // BCrypt 해시 계산 전용 풀 (대기열이 가득 차면 TaskRejectedException → 503)
+    @Bean
+    public ThreadPoolTaskExecutor passwordExecutor() {
+        int threads = passwordProps.getThreads() > 0
+            ? passwordProps.getThreads()
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("password-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(passwordProps.getQueueCapacity());
+        return executor;
+    }
+}
@@ -2,8 +2,11 @@ package com.gigigenie.config;
 
 import com.gigigenie.domain.oauth.model.CustomOAuth2User;
 import com.gigigenie.domain.oauth.service.OAuth2Service;
+import com.gigigenie.props.PasswordProps;
+import com.gigigenie.security.PublicRoutes;
 import com.gigigenie.security.filter.JWTCheckFilter;
 import com.gigigenie.security.handler.CustomAccessDeniedHandler;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Arrays;
@@ -36,6 +39,7 @@ public class SecurityConfig {
 
     private final JWTCheckFilter jwtCheckFilter;
     private final OAuth2Service oAuth2Service;
+    private final PasswordProps passwordProps;
 
     @Value("${cors.allowed-origins}")
     private String allowedOriginsString;
@@ -45,7 +49,7 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(passwordProps.getBcryptStrength());
     }
 
     @Bean
@@ -56,27 +60,10 @@ public class SecurityConfig {
                 httpSecurityCorsConfigurer.configurationSource(corsConfigurationSource());
             })
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers(
-                    new AntPathRequestMatcher("/favicon.ico"),
-                    new AntPathRequestMatcher("/v2/api-docs"),
-                    new AntPathRequestMatcher("/swagger-resources/**"),
-                    new AntPathRequestMatcher("/swagger-ui/**"),
-                    new AntPathRequestMatcher("/webjars/**"),
-                    new AntPathRequestMatcher("/v3/api-docs/**"),
-                    new AntPathRequestMatcher("/h2-console/**")
-                ).permitAll()
-                .requestMatchers(
-                    new AntPathRequestMatcher("/api/member/login"),
-                    new AntPathRequestMatcher("/api/member/join"),
-                    new AntPathRequestMatcher("/api/member/check-email"),
-                    new AntPathRequestMatcher("/api/member/me"),
-                    new AntPathRequestMatcher("/api/member/refresh"),
-                    new AntPathRequestMatcher("/api/oauth2/**"),
-                    new AntPathRequestMatcher("/oauth2/**"),
-                    new AntPathRequestMatcher("/login/oauth2/code/**"),
-                    new AntPathRequestMatcher("/api/product/search"),
-                    new AntPathRequestMatcher("/api/product/list")
-                ).permitAll()
+                // SSE 등 비동기 응답 완료 시의 ASYNC 디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                // 공개 경로 (JWTCheckFilter 제외 대상과 같은 목록)
+                .requestMatchers(PublicRoutes.MATCHER).permitAll()
                 .requestMatchers(
                     new AntPathRequestMatcher("/api/member/logout"),
                     new AntPathRequestMatcher("/api/pdf/upload"),
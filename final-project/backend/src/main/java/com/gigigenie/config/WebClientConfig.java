@@ -1,25 +1,86 @@
 package com.gigigenie.config;
 
+import com.gigigenie.props.RagProps;
+import io.netty.channel.ChannelOption;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+/**
+ * RAG 서버용 WebClient
+ * <p>
+ * 채팅과 인덱싱은 커넥션 풀을 따로 써서 오래 걸리는 업로드가 채팅 커넥션을 점유하지 않도록 한다. 풀/클라이언트 지표는
+ * reactor.netty.connection.provider.* / reactor.netty.http.client.* 로 Micrometer에 등록된다.
+ */
 @Configuration
 @RequiredArgsConstructor
 public class WebClientConfig {
 
-    @Value("${rag.base-url}")
-    private String ragBaseUrl;
+    private final RagProps ragProps;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider ragChatConnectionProvider() {
+        return connectionProvider("rag-chat", ragProps.getChat().getPool());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider ragIndexConnectionProvider() {
+        return connectionProvider("rag-index", ragProps.getIndex().getPool());
+    }
+
+    // 응답 제한 시간은 호출 종류(chat/index)마다 다르므로 RagClient에서 요청 단위로 적용
+    @Bean
+    public WebClient ragWebClient(WebClient.Builder baseBuilder,
+        @Qualifier("ragChatConnectionProvider") ConnectionProvider connectionProvider) {
+        return webClient(baseBuilder, connectionProvider);
+    }
 
     @Bean
-    public WebClient ragWebClient(WebClient.Builder baseBuilder) {
+    public WebClient ragIndexWebClient(WebClient.Builder baseBuilder,
+        @Qualifier("ragIndexConnectionProvider") ConnectionProvider connectionProvider) {
+        return webClient(baseBuilder, connectionProvider);
+    }
+
+    private ConnectionProvider connectionProvider(String name, RagProps.Pool pool) {
+        return ConnectionProvider.builder(name)
+            .maxConnections(pool.getMaxConnections())
+            .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+            .maxIdleTime(pool.getMaxIdleTime())
+            .maxLifeTime(pool.getMaxLifeTime())
+            .evictInBackground(pool.getEvictInBackground())
+            .metrics(true)
+            .build();
+    }
+
+    private WebClient webClient(WebClient.Builder baseBuilder,
+        ConnectionProvider connectionProvider) {
+        HttpProtocol[] protocols = ragProps.isH2c()
+            ? new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11}
+            : new HttpProtocol[]{HttpProtocol.HTTP11};
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .protocol(protocols)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                (int) ragProps.getConnectTimeout().toMillis())
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .compress(ragProps.isCompression())
+            // URI는 /chat, /chat/stream, /upload 고정이므로 그대로 태그로 사용
+            .metrics(true, Function.identity());
+
         return baseBuilder
-            .baseUrl(ragBaseUrl)
+            .baseUrl(ragProps.getBaseUrl())
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
             .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
             .build();
     }
-}
\ No newline at end of file
+}
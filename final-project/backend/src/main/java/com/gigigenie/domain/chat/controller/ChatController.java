@@ -2,12 +2,15 @@ package com.gigigenie.domain.chat.controller;
 
 import com.gigigenie.domain.chat.dto.ChatMessage;
 import com.gigigenie.domain.chat.dto.ChatRequest;
+import com.gigigenie.domain.chat.dto.ChatStreamChunk;
 import com.gigigenie.domain.chat.service.ChatService;
 import io.swagger.v3.oas.annotations.Operation;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,6 +18,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -32,6 +36,13 @@ public class ChatController {
         return ResponseEntity.ok(answer);
     }
 
+    @Operation(summary = "대화형 제품 설명서 질의응답 (SSE 스트리밍)")
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ChatStreamChunk>> stream(@RequestBody ChatRequest request,
+        Authentication authentication) {
+        return chatService.streamChat(request, authentication);
+    }
+
     @Operation(summary = "대화 종료")
     @DeleteMapping("/{productId}")
     public ResponseEntity<String> endChat(@PathVariable Long productId,
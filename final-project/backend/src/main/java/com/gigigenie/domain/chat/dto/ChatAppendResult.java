@@ -0,0 +1,14 @@
+package com.gigigenie.domain.chat.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ChatAppendResult {
+
+    private long sequence; // 세션 내 마지막으로 추가된 메시지 순번 (1부터 시작)
+    private long offset; // history[0]의 세션 내 위치 (0부터, 앞의 offset건은 조회하지 않음)
+    private List<ChatMessage> history; // 추가 후 최근 이력 (요청하지 않은 경우 빈 리스트)
+}
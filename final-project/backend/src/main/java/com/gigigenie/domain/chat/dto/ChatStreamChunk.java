@@ -0,0 +1,19 @@
+package com.gigigenie.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * SSE 이벤트 data (JSON {"t": "..."})
+ * <p>
+ * 토큰을 그대로 data: 에 쓰면 EventSource 파서가 앞 공백 하나를 지우고 줄바꿈을 여러 data: 줄로 나누므로, 텍스트는
+ * 항상 JSON 문자열로 감싸 보낸다. RAG 서버 → 백엔드, 백엔드 → 브라우저 구간 모두 같은 형식을 쓴다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatStreamChunk {
+
+    private String t; // 답변 조각 (error 이벤트에서는 오류 메시지)
+}
@@ -0,0 +1,222 @@
+package com.gigigenie.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gigigenie.props.ChatProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제품별 첫 질문 답변 캐시
+ * <p>
+ * productId + 정규화된 질문을 키로 FastAPI /chat 답변을 캐시한다. 이전 대화에 따라 답변이 달라질 수 있으므로 세션의 첫
+ * 턴에만 사용한다. 인스턴스 로컬 LRU(짧은 TTL) → Redis(TTL) 순으로 조회하며, 제품 PDF가 다시 인덱싱되면
+ * {@link #evictProduct(Long)}로 Redis 항목을 지우고, 각 노드의 로컬 항목은 ProductChangeNotifier 메시지를 받아
+ * {@link #evictLocal(Long)}로 지운다.
+ */
+@Slf4j
+@Component
+public class ChatAnswerCache {
+
+    private static final String KEY_PREFIX = "chat:answer:";
+    // ChatSingleFlight 리스 키 접미어 (무효화 대상에서 제외)
+    static final String LOCK_SUFFIX = ":lock";
+
+    private final StringRedisTemplate redis;
+    private final ChatProps.AnswerCache props;
+    private final ObjectMapper om = new ObjectMapper();
+    private final Map<String, LocalEntry> local;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Timer latencySaved;
+
+    public ChatAnswerCache(StringRedisTemplate redis, ChatProps chatProps,
+        MeterRegistry meterRegistry) {
+        this.redis = redis;
+        this.props = chatProps.getAnswerCache();
+        int maxSize = props.getLocalMaxSize();
+        this.local = Collections.synchronizedMap(
+            new LinkedHashMap<String, LocalEntry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                    return size() > maxSize;
+                }
+            });
+
+        this.localHits = Counter.builder("chat.answer.cache.requests")
+            .tag("result", "hit").tag("tier", "local").register(meterRegistry);
+        this.redisHits = Counter.builder("chat.answer.cache.requests")
+            .tag("result", "hit").tag("tier", "redis").register(meterRegistry);
+        this.misses = Counter.builder("chat.answer.cache.requests")
+            .tag("result", "miss").tag("tier", "none").register(meterRegistry);
+        this.latencySaved = Timer.builder("chat.answer.cache.latency.saved")
+            .description("캐시 적중으로 생략된 RAG 호출 시간 (캐시 당시 측정값)")
+            .register(meterRegistry);
+        meterRegistry.gaugeMapSize("chat.answer.cache.local.size", List.of(), local);
+    }
+
+    public boolean isEnabled() {
+        return props.isEnabled();
+    }
+
+    // 캐시 조회
+    public Optional<String> get(Long productId, String question) {
+        if (!props.isEnabled()) {
+            return Optional.empty();
+        }
+        String key = key(productId, question);
+
+        LocalEntry entry = local.get(key);
+        if (entry != null) {
+            if (entry.expiresAt() > System.currentTimeMillis()) {
+                localHits.increment();
+                latencySaved.record(Duration.ofMillis(entry.answer().latencyMs()));
+                return Optional.of(entry.answer().answer());
+            }
+            local.remove(key);
+        }
+
+        try {
+            String json = redis.opsForValue().get(key);
+            if (json != null) {
+                CachedAnswer answer = om.readValue(json, CachedAnswer.class);
+                putLocal(key, answer);
+                redisHits.increment();
+                latencySaved.record(Duration.ofMillis(answer.latencyMs()));
+                return Optional.of(answer.answer());
+            }
+        } catch (Exception e) {
+            log.error("답변 캐시 조회 실패 (productId={}): {}", productId, e.getMessage());
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 캐시 저장
+     *
+     * @param latencyMs 답변을 만드는 데 걸린 RAG 호출 시간 (적중 시 절약 시간 지표로 사용)
+     */
+    public void put(Long productId, String question, String answer, long latencyMs) {
+        if (!props.isEnabled() || answer == null || answer.isBlank()) {
+            return;
+        }
+        String key = key(productId, question);
+        CachedAnswer cached = new CachedAnswer(answer, latencyMs);
+        putLocal(key, cached);
+        try {
+            redis.opsForValue().set(key, om.writeValueAsString(cached), props.getTtl());
+        } catch (Exception e) {
+            log.error("답변 캐시 저장 실패 (productId={}): {}", productId, e.getMessage());
+        }
+    }
+
+    // 제품 재인덱싱 시 해당 제품의 캐시 전체 삭제 (이 노드 로컬 + Redis, 진행 중인 single-flight 리스는 유지)
+    public void evictProduct(Long productId) {
+        evictLocal(productId);
+
+        String prefix = KEY_PREFIX + productId + ":";
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redis.scan(
+            ScanOptions.scanOptions().match(prefix + "*").count(500).build())) {
+            cursor.forEachRemaining(key -> {
+                if (!key.endsWith(LOCK_SUFFIX)) {
+                    keys.add(key);
+                }
+            });
+        } catch (Exception e) {
+            log.error("답변 캐시 무효화 실패 (productId={}): {}", productId, e.getMessage());
+            return;
+        }
+        if (!keys.isEmpty()) {
+            redis.unlink(keys);
+        }
+        log.info("답변 캐시 무효화 (productId={}): {}건", productId, keys.size());
+    }
+
+    // 이 노드의 로컬 항목만 삭제 (다른 노드의 무효화 메시지 수신 시)
+    public void evictLocal(Long productId) {
+        String prefix = KEY_PREFIX + productId + ":";
+        synchronized (local) {
+            local.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    // 다른 노드가 채운 결과 확인용 (지표 미집계, 찾으면 로컬에도 적재)
+    Optional<String> peek(String key) {
+        try {
+            String json = redis.opsForValue().get(key);
+            if (json == null) {
+                return Optional.empty();
+            }
+            CachedAnswer answer = om.readValue(json, CachedAnswer.class);
+            putLocal(key, answer);
+            return Optional.of(answer.answer());
+        } catch (Exception e) {
+            log.error("답변 캐시 확인 실패 (key={}): {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    ChatProps.AnswerCache props() {
+        return props;
+    }
+
+    private void putLocal(String key, CachedAnswer answer) {
+        local.put(key, new LocalEntry(answer,
+            System.currentTimeMillis() + props.getLocalTtl().toMillis()));
+    }
+
+    String key(Long productId, String question) {
+        return KEY_PREFIX + productId + ":" + sha256(normalize(question));
+    }
+
+    // 대소문자, 전각/반각, 구두점, 연속 공백 차이를 무시
+    static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        return Normalizer.normalize(question, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[\\p{P}\\p{S}]+", " ")
+            .replaceAll("\\s+", " ")
+            .strip();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record CachedAnswer(String answer, long latencyMs) {
+
+    }
+
+    private record LocalEntry(CachedAnswer answer, long expiresAt) {
+
+    }
+}
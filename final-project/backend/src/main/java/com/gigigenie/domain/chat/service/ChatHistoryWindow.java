@@ -0,0 +1,162 @@
+package com.gigigenie.domain.chat.service;
+
+import com.gigigenie.domain.chat.dto.ChatAppendResult;
+import com.gigigenie.domain.chat.dto.ChatMessage;
+import com.gigigenie.domain.chat.service.RedisChatService.ChatDigest;
+import com.gigigenie.props.ChatProps;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * FastAPI로 보낼 대화 이력 윈도우
+ * <p>
+ * 최신 유저 메시지는 항상 포함하고, 그 앞의 메시지는 최신순으로 메시지 수와 추정 토큰 상한 안에서만 포함한다. 입력은
+ * addMessage가 돌려준 최근 {@link #fetchSize()}건뿐이므로 세션 길이와 무관하게 일정한 양만 처리한다.
+ * digest-enabled이면 잘려나간 앞부분을 메시지 하나짜리 발췌(digest)로 대체한다. 발췌는 요약이 아니라 각 메시지를
+ * 잘라 붙인 Q/A 기록이며, 예산을 넘으면 윈도우에 가까운 최근 줄을 남긴다. 실제 요약은 이력이 길 때 FastAPI가
+ * 수행한다. Redis의 전체 이력은 건드리지 않으므로 endChat 저장에는 영향이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatHistoryWindow {
+
+    // 발췌 메시지 접두어 (모델이 요약이 아닌 잘린 이전 기록임을 알 수 있도록)
+    private static final String DIGEST_PREFIX = "Earlier conversation (truncated transcript): ";
+    // 메시지당 role 등 부가 토큰
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+    private static final int DIGEST_ENTRY_MAX_CHARS = 200;
+
+    private final ChatProps chatProps;
+    private final RedisChatService redisChatService;
+
+    // addMessage로 함께 읽어올 최근 메시지 수 (윈도우가 이보다 길어질 수 없음)
+    public int fetchSize() {
+        return chatProps.getHistory().getMaxMessages();
+    }
+
+    /**
+     * @param turn addMessage 결과 (최근 {@link #fetchSize()}건과 그 시작 위치)
+     */
+    public List<ChatMessage> apply(Integer memberId, Long productId, ChatAppendResult turn) {
+        List<ChatMessage> history = turn.getHistory();
+        if (history.isEmpty()) {
+            return history;
+        }
+        ChatProps.History props = chatProps.getHistory();
+
+        // 최신 유저 메시지는 예산과 무관하게 포함
+        int last = history.size() - 1;
+        int tokens = estimateTokens(history.get(last));
+        int cut = last;
+        while (cut > 0 && history.size() - cut < props.getMaxMessages()) {
+            int next = estimateTokens(history.get(cut - 1));
+            if (tokens + next > props.getMaxTokens()) {
+                break;
+            }
+            tokens += next;
+            cut--;
+        }
+
+        long offset = turn.getOffset();
+        if (cut == 0 && offset == 0) {
+            return history;
+        }
+
+        if (!props.isDigestEnabled()) {
+            log.debug("이력 윈도우 적용 (memberId={}, productId={}): {} -> {}건, ~{} tokens",
+                memberId, productId, offset + history.size(), history.size() - cut, tokens);
+            return new ArrayList<>(history.subList(cut, history.size()));
+        }
+
+        // 발췌 메시지 자리를 위해 메시지 수 상한을 넘지 않도록 한 칸 더 비움
+        if (history.size() - cut >= props.getMaxMessages() && cut < last) {
+            cut++;
+        }
+        List<ChatMessage> window = new ArrayList<>(history.size() - cut + 1);
+        window.add(new ChatMessage("bot", DIGEST_PREFIX + digest(memberId, productId,
+            history, offset, cut, props.getDigestMaxTokens())));
+        window.addAll(history.subList(cut, history.size()));
+        return window;
+    }
+
+    // 캐시된 발췌에 [upto, offset + cut) 구간만 이어붙여 갱신 (이미 반영된 구간은 다시 처리하지 않음)
+    private String digest(Integer memberId, Long productId, List<ChatMessage> history,
+        long offset, int cut, int maxTokens) {
+        long upto = offset + cut;
+        ChatDigest cached = redisChatService.loadDigest(memberId, productId);
+        if (cached != null && cached.upto() == upto) {
+            return cached.text();
+        }
+
+        long from = 0;
+        StringBuilder text = new StringBuilder();
+        if (cached != null && cached.upto() < upto) {
+            from = cached.upto();
+            text.append(cached.text());
+        }
+        // 한 줄은 최소 1토큰이므로 끝에서 maxTokens줄보다 앞은 어차피 잘려나감 (읽지 않음)
+        if (upto - from > maxTokens) {
+            from = upto - maxTokens;
+            text.setLength(0);
+        }
+
+        // 최근 이력보다 앞부분만 Redis에서 추가로 읽음
+        List<ChatMessage> older = from < offset
+            ? redisChatService.range(memberId, productId, from, offset - 1)
+            : List.of();
+        for (long i = from; i < upto; i++) {
+            ChatMessage message = i < offset
+                ? (i - from < older.size() ? older.get((int) (i - from)) : null)
+                : history.get((int) (i - offset));
+            if (message == null) {
+                continue;
+            }
+            String content = message.getMessages() == null ? "" : message.getMessages().strip();
+            if (content.length() > DIGEST_ENTRY_MAX_CHARS) {
+                content = content.substring(0, DIGEST_ENTRY_MAX_CHARS) + "…";
+            }
+            if (!text.isEmpty()) {
+                text.append('\n');
+            }
+            text.append("user".equals(message.getRole()) ? "Q: " : "A: ").append(content);
+        }
+
+        // 예산을 넘으면 오래된 줄부터 제거
+        String digest = text.toString();
+        while (estimateTokens(digest) > maxTokens && digest.indexOf('\n') > 0) {
+            digest = digest.substring(digest.indexOf('\n') + 1);
+        }
+
+        redisChatService.saveDigest(memberId, productId, new ChatDigest(upto, digest));
+        return digest;
+    }
+
+    static int estimateTokens(ChatMessage message) {
+        return estimateTokens(message.getMessages()) + MESSAGE_OVERHEAD_TOKENS;
+    }
+
+    /**
+     * 토크나이저 없이 쓰는 토큰 수 추정치
+     * <p>
+     * ASCII는 약 4글자당 1토큰, 한글 등 그 외 문자는 1글자당 1토큰으로 계산한다.
+     */
+    static int estimateTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return (ascii + 3) / 4 + other;
+    }
+}
@@ -1,27 +1,28 @@
 package com.gigigenie.domain.chat.service;
 
+import com.gigigenie.domain.chat.dto.ChatAppendResult;
 import com.gigigenie.domain.chat.dto.ChatMessage;
 import com.gigigenie.domain.chat.dto.ChatRequest;
+import com.gigigenie.domain.chat.dto.ChatStreamChunk;
 import com.gigigenie.domain.chat.dto.FastApiRequest;
 import com.gigigenie.domain.chat.enums.ChatRole;
 import com.gigigenie.domain.history.entity.QueryHistory;
 import com.gigigenie.domain.history.repository.QueryHistoryRepository;
-import com.gigigenie.domain.member.dto.MemberDTO;
 import com.gigigenie.domain.member.entity.Member;
-import com.gigigenie.domain.member.repository.MemberRepository;
 import com.gigigenie.domain.product.entity.Product;
-import com.gigigenie.domain.product.repository.ProductRepository;
-import jakarta.persistence.EntityNotFoundException;
+import com.gigigenie.util.EntityResolver;
+import com.gigigenie.util.rag.RagClient;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
@@ -29,66 +30,109 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class ChatService {
 
-    private final WebClient ragWebClient;
-    private final MemberRepository memberRepository;
-    private final ProductRepository productRepository;
+    private final RagClient ragClient;
+    private final EntityResolver entityResolver;
     private final QueryHistoryRepository queryHistoryRepository;
     private final RedisChatService redisChatService;
+    private final ChatHistoryWindow historyWindow;
+    private final ChatAnswerCache answerCache;
+    private final ChatSingleFlight singleFlight;
 
     // 대화
     public List<ChatMessage> processChat(ChatRequest request, Authentication authentication) {
-        Member member = findMember(authentication);
-        Product product = findProduct(request.getProductId());
-
         //변수
-        Integer memberId = member.getMemberId();
-        Long productId = product.getId();
+        Integer memberId = entityResolver.currentMemberId(authentication);
+        Long productId = entityResolver.requireProduct(request.getProductId());
         String question = request.getQuestion();
 
         //유저 메세지
         ChatMessage chatMessage = new ChatMessage("user", question);
-        //유저 메세지 추가 + 이전 대화내용 불러오기
-        List<ChatMessage> history = redisChatService.addMessage(memberId, productId, chatMessage);
-        // request 요청
-        FastApiRequest fastApiRequest = new FastApiRequest(productId, question, history);
-
-        String botResponse = ragWebClient.post()
-            .uri("/chat")
-            .bodyValue(fastApiRequest)
-            .retrieve()
-            .onStatus(HttpStatusCode::is4xxClientError, res ->
-                res.bodyToMono(String.class)
-                    .defaultIfEmpty("요청 본문 없음")
-                    .flatMap(msg -> Mono.error(
-                        new IllegalArgumentException("잘못된 요청: " + msg)
-                    ))
-            )
-            .onStatus(HttpStatusCode::is5xxServerError, res ->
-                res.bodyToMono(String.class)
-                    .defaultIfEmpty("서버 오류 본문 없음")
-                    .flatMap(msg -> Mono.error(
-                        new IllegalStateException("서버 오류: " + msg)
-                    ))
-            )
-            .bodyToMono(String.class)
-            .switchIfEmpty(Mono.error(new IllegalStateException("응답이 비어있음")))
-            .block();
+        //유저 메세지 추가 + 최근 대화내용 불러오기 (원자적 1회 왕복, 세션 내 순번 반환)
+        ChatAppendResult turn = redisChatService.addMessage(memberId, productId, chatMessage,
+            historyWindow.fetchSize());
+        List<ChatMessage> history = turn.getHistory();
+        log.debug("유저 메시지 추가 (memberId={}, productId={}, seq={})", memberId, productId,
+            turn.getSequence());
+        // request 요청 (메시지 수/토큰 예산 윈도우 적용, 전체 이력은 Redis에 유지)
+        FastApiRequest fastApiRequest = new FastApiRequest(productId, question,
+            historyWindow.apply(memberId, productId, turn));
+
+        // 세션의 첫 턴은 이전 대화와 무관하므로 제품별 답변 캐시 + 동일 질문 동시 요청 합치기
+        boolean cacheable = turn.getSequence() == 1 && answerCache.isEnabled();
+        String botResponse = cacheable
+            ? singleFlight.getOrCompute(productId, question, () -> ragClient.chat(fastApiRequest))
+            : ragClient.chat(fastApiRequest);
 
         ChatMessage botMessage = new ChatMessage("bot", botResponse);
         history.add(botMessage);
-        redisChatService.save(memberId, productId, history);
+        long botSequence = redisChatService.append(memberId, productId, botMessage);
+        log.debug("봇 메시지 추가 (memberId={}, productId={}, seq={})", memberId, productId,
+            botSequence);
 
         return history;
     }
 
+    // 스트리밍 대화 - 답변 청크를 받는 즉시 SSE로 흘려보내고, 스트림 종료 후 봇 메시지를 Redis에 추가
+    public Flux<ServerSentEvent<ChatStreamChunk>> streamChat(ChatRequest request,
+        Authentication authentication) {
+        Integer memberId = entityResolver.currentMemberId(authentication);
+        Long productId = entityResolver.requireProduct(request.getProductId());
+        String question = request.getQuestion();
+
+        ChatAppendResult turn = redisChatService.addMessage(memberId, productId,
+            new ChatMessage("user", question), historyWindow.fetchSize());
+        FastApiRequest fastApiRequest = new FastApiRequest(productId, question,
+            historyWindow.apply(memberId, productId, turn));
+
+        boolean cacheable = turn.getSequence() == 1 && answerCache.isEnabled();
+        String cached = cacheable ? answerCache.get(productId, question).orElse(null) : null;
+
+        StringBuilder answer = new StringBuilder();
+        long startedAt = System.currentTimeMillis();
+
+        Flux<String> source = cached != null
+            ? Flux.just(cached)
+            : ragClient.streamChat(fastApiRequest);
+        // 청크는 JSON으로 감싸 전송 (앞 공백/줄바꿈 보존)
+        Flux<ServerSentEvent<ChatStreamChunk>> chunks = source
+            .doOnNext(answer::append)
+            .map(chunk -> ServerSentEvent.builder(new ChatStreamChunk(chunk))
+                .event("message").build());
+
+        // 스트림이 정상 종료되면 완성된 답변을 저장 (Redis 호출은 블로킹이므로 boundedElastic에서 실행)
+        Mono<ServerSentEvent<ChatStreamChunk>> done = Mono.fromCallable(() -> {
+                if (answer.isEmpty()) {
+                    throw new IllegalStateException("응답이 비어있음");
+                }
+                long botSequence = redisChatService.append(memberId, productId,
+                    new ChatMessage("bot", answer.toString()));
+                if (cacheable && cached == null) {
+                    answerCache.put(productId, question, answer.toString(),
+                        System.currentTimeMillis() - startedAt);
+                }
+                // done 이벤트 id = 세션 내 봇 메시지 순번
+                return ServerSentEvent.<ChatStreamChunk>builder().event("done")
+                    .id(String.valueOf(botSequence)).build();
+            })
+            .subscribeOn(Schedulers.boundedElastic());
+
+        return chunks.concatWith(done)
+            .onErrorResume(e -> {
+                log.error("스트리밍 대화 실패 (memberId={}, productId={}): {}", memberId, productId,
+                    e.getMessage());
+                return Mono.just(ServerSentEvent.builder(new ChatStreamChunk(e.getMessage()))
+                    .event("error").build());
+            });
+    }
+
     // 대화 종료
     public void endChat(Long productId, Authentication authentication) {
-        // 1) 식별자 조회
-        Member member = findMember(authentication);
-        Product product = findProduct(productId);
+        // 1) 식별자 → 엔티티 참조 (SELECT 없음, 존재 여부는 FK 제약으로 확인)
+        Member member = entityResolver.memberRef(authentication);
+        Product product = entityResolver.productRef(productId);
 
         // 2) 대화 내역 불러오기
-        List<ChatMessage> history = redisChatService.load(member.getMemberId(), product.getId());
+        List<ChatMessage> history = redisChatService.load(member.getMemberId(), productId);
 
         // 3) 기존 DB 저장 기록 삭제
         queryHistoryRepository.deleteByMemberAndProduct(member, product);
@@ -112,9 +156,7 @@ public class ChatService {
 
     // 세션 삭제
     public void clearSession(Long productId, Authentication authentication) {
-        Member member = findMember(authentication);
-        Product product = findProduct(productId);
-        redisChatService.delete(member.getMemberId(), product.getId());
+        redisChatService.delete(entityResolver.currentMemberId(authentication), productId);
     }
 
     // 문자열 role("user", "bot")을 ChatRole Enum 값으로 변환
@@ -125,15 +167,4 @@ public class ChatService {
             default -> throw new IllegalArgumentException("Unknown role: " + role);
         };
     }
-
-    private Member findMember(Authentication authentication) {
-        MemberDTO memberDTO = (MemberDTO) authentication.getPrincipal();
-        return memberRepository.findById(memberDTO.getId())
-            .orElseThrow(() -> new EntityNotFoundException("Member not found"));
-    }
-
-    private Product findProduct(Long productId) {
-        return productRepository.findById(productId)
-            .orElseThrow(() -> new EntityNotFoundException("Product not found"));
-    }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.gigigenie.domain.chat.service;
+
+import com.gigigenie.props.ChatProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동일한 첫 질문의 동시 RAG 호출을 하나로 합치는 single-flight
+ * <p>
+ * 같은 productId + 정규화된 질문으로 동시에 들어온 요청은 인스턴스 안에서 하나의 Future를 공유하고, 인스턴스 사이에서는
+ * Redis 리스(SET NX PX)를 잡은 노드만 FastAPI를 호출한다. 리스를 잡지 못한 노드는 답변 캐시에 결과가 올라올 때까지
+ * 기다리고, 결과 없이 리스가 풀리면(리더 실패) 바로 리스를 다시 잡으려 시도한다. 리스 기간이 지나도록 결과가 없으면
+ * 직접 호출한다. 대화 이력 저장은 호출자가 각자 처리한다.
+ */
+@Slf4j
+@Component
+public class ChatSingleFlight {
+
+    // 리스 소유자만 해제 (다른 노드가 새로 잡은 리스를 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+            + "return 0", Long.class);
+
+    private final ChatAnswerCache answerCache;
+    private final StringRedisTemplate redis;
+    private final ChatProps.AnswerCache props;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter localFollowers;
+    private final Counter remoteFollowers;
+
+    public ChatSingleFlight(ChatAnswerCache answerCache, StringRedisTemplate redis,
+        MeterRegistry meterRegistry) {
+        this.answerCache = answerCache;
+        this.redis = redis;
+        this.props = answerCache.props();
+
+        this.leaders = Counter.builder("chat.answer.singleflight")
+            .tag("role", "leader").register(meterRegistry);
+        this.localFollowers = Counter.builder("chat.answer.singleflight")
+            .tag("role", "local_follower").register(meterRegistry);
+        this.remoteFollowers = Counter.builder("chat.answer.singleflight")
+            .tag("role", "remote_follower").register(meterRegistry);
+        meterRegistry.gaugeMapSize("chat.answer.singleflight.inflight", List.of(), inFlight);
+    }
+
+    /**
+     * 캐시 → 진행 중인 동일 요청 → 직접 호출 순으로 답변을 얻는다.
+     *
+     * @param upstream FastAPI 호출 (리더일 때만 실행)
+     */
+    public String getOrCompute(Long productId, String question, Supplier<String> upstream) {
+        Optional<String> cached = answerCache.get(productId, question);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String key = answerCache.key(productId, question);
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            localFollowers.increment();
+            return await(existing);
+        }
+
+        try {
+            String answer = computeClusterWide(key, productId, question, upstream);
+            mine.complete(answer);
+            return answer;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private String computeClusterWide(String key, Long productId, String question,
+        Supplier<String> upstream) {
+        String lockKey = key + ChatAnswerCache.LOCK_SUFFIX;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + props.getSingleFlightLease().toMillis();
+        Boolean acquired = tryAcquire(lockKey, token, productId);
+        if (Boolean.FALSE.equals(acquired)) {
+            remoteFollowers.increment();
+        }
+
+        // 리더가 결과 없이 리스를 풀면 다시 리스 획득 시도 (한 노드만 새 리더가 됨)
+        while (Boolean.FALSE.equals(acquired)) {
+            Optional<String> remote = awaitRemote(key, lockKey, deadline);
+            if (remote.isPresent()) {
+                return remote.get();
+            }
+            if (System.currentTimeMillis() >= deadline || Thread.currentThread().isInterrupted()) {
+                log.info("single-flight 리스 기간 내 결과 없음, 직접 호출 (productId={})", productId);
+                break;
+            }
+            acquired = tryAcquire(lockKey, token, productId);
+        }
+        if (!Boolean.FALSE.equals(acquired)) {
+            leaders.increment();
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            String answer = upstream.get();
+            answerCache.put(productId, question, answer, System.currentTimeMillis() - startedAt);
+            return answer;
+        } finally {
+            if (Boolean.TRUE.equals(acquired)) {
+                release(lockKey, token);
+            }
+        }
+    }
+
+    // 획득 시 TRUE, 다른 노드가 보유 중이면 FALSE, Redis 오류면 null (직접 호출)
+    private Boolean tryAcquire(String lockKey, String token, Long productId) {
+        try {
+            return redis.opsForValue().setIfAbsent(lockKey, token, props.getSingleFlightLease());
+        } catch (Exception e) {
+            log.warn("single-flight 리스 획득 실패, 직접 호출 (productId={}): {}", productId,
+                e.getMessage());
+            return null;
+        }
+    }
+
+    // 리스를 가진 노드가 답변 캐시에 결과를 올리거나 리스를 풀 때까지 대기
+    private Optional<String> awaitRemote(String key, String lockKey, long deadline) {
+        long interval = props.getSingleFlightPollInterval().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            Optional<String> answer = answerCache.peek(key);
+            if (answer.isPresent()) {
+                return answer;
+            }
+            if (!leaseHeld(lockKey)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean leaseHeld(String lockKey) {
+        try {
+            return Boolean.TRUE.equals(redis.hasKey(lockKey));
+        } catch (Exception e) {
+            log.warn("single-flight 리스 확인 실패 (key={}): {}", lockKey, e.getMessage());
+            return false;
+        }
+    }
+
+    private String await(CompletableFuture<String> future) {
+        try {
+            return future.get(props.getSingleFlightLease().toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("동일 질문 처리 대기 시간 초과");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("동일 질문 처리 대기 중 인터럽트");
+        }
+    }
+
+    private void release(String lockKey, String token) {
+        try {
+            redis.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("single-flight 리스 해제 실패 (key={}): {}", lockKey, e.getMessage());
+        }
+    }
+}
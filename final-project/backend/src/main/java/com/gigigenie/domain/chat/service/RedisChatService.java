@@ -1,67 +1,170 @@
 package com.gigigenie.domain.chat.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gigigenie.domain.chat.dto.ChatAppendResult;
 import com.gigigenie.domain.chat.dto.ChatMessage;
+import com.gigigenie.props.ChatProps;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+/**
+ * 채팅 세션 저장소
+ * <p>
+ * 세션 하나를 Redis LIST 하나로 저장하고 메시지 1건 = 원소 1개(JSON)로 관리한다. 턴마다 RPUSH + EXPIRE만
+ * Lua 스크립트로 원자적으로 수행하므로 대화 길이와 무관하게 쓰기 비용이 일정하고, 같은 세션에 동시에 들어온 턴도
+ * 서로 덮어쓰지 않는다. 추가 후 리스트 길이를 세션 내 순번(sequence)으로 돌려주고, 이력은 호출자가 요청한 최근 N건만
+ * 읽어 대화가 길어져도 턴당 Redis 작업량과 전송량이 늘지 않는다. 예전 형식(chat:{member}:{product} 문자열 키에 ChatMessage[] JSON)은
+ * WRONGTYPE 발생 시 해당 키만 LIST로 변환하고, 필요하면 {@link #migrateLegacySessions()}로 일괄 변환한다. 변환도 Lua
+ * 스크립트 하나로 TYPE 확인부터 DEL/RPUSH/EXPIRE까지 수행하므로 같은 키를 동시에 변환해도 메시지가 지워지지 않는다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisChatService {
 
     private final StringRedisTemplate redis;
+    private final ChatProps chatProps;
     private final ObjectMapper om = new ObjectMapper();
     //TTL수정
     private static final Duration TTL = Duration.ofMinutes(30);
+    private static final String KEY_PATTERN = "chat:*";
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List<Object>> APPEND_SCRIPT = (RedisScript) RedisScript.of(
+        new ClassPathResource("scripts/chat_append.lua"), List.class);
+    private static final RedisScript<Long> MIGRATE_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/chat_migrate.lua"), Long.class);
+    private static final Pattern SESSION_KEY = Pattern.compile("chat:\\d+:\\d+");
 
     private String key(Integer memberId, Long productId) {
         return "chat:%d:%s".formatted(memberId, productId);
     }
 
+    private String digestKey(Integer memberId, Long productId) {
+        return key(memberId, productId) + ":digest";
+    }
+
     // 대화 불러오기
     public List<ChatMessage> load(Integer memberId, Long productId) {
-        String redisKey = redis.opsForValue().get(key(memberId, productId));
-        if (redisKey == null) {
+        String redisKey = key(memberId, productId);
+        try {
+            List<String> raw = withLegacyMigration(redisKey,
+                () -> redis.opsForList().range(redisKey, 0, -1));
+            return deserialize(raw);
+        } catch (Exception e) {
+            log.error("Redis load 실패 (memberId={}, productId={}): {}", memberId, productId,
+                e.getMessage(), e);
             return new ArrayList<>();
         }
+    }
+
+    /**
+     * 메시지 추가 (RPUSH + EXPIRE를 Lua 스크립트로 원자적으로 1회 왕복)
+     *
+     * @return 세션 내 마지막으로 추가된 메시지의 순번, 실패 시 0
+     */
+    public long append(Integer memberId, Long productId, ChatMessage... messages) {
         try {
-            ChatMessage[] history = om.readValue(redisKey, ChatMessage[].class);
-            if (history == null) {
-                return new ArrayList<>();
-            }
+            return appendAtomically(key(memberId, productId), 0, messages).getSequence();
+        } catch (Exception e) {
+            log.error("Redis append 실패 (memberId={}, productId={}): {}", memberId, productId,
+                e.getMessage(), e);
+            return 0L;
+        }
+    }
 
-            return new ArrayList<>(Arrays.asList(history));
+    /**
+     * 유저 메시지 추가 + 순번과 최근 이력 반환 (FastAPI 호출용)
+     * <p>
+     * RPUSH + EXPIRE + LRANGE(-window, -1)를 하나의 원자적 스크립트로 처리하므로 동시 턴에서도 메시지가 유실되지 않는다.
+     *
+     * @param window 돌려받을 최근 메시지 수 (새 메시지 포함)
+     */
+    public ChatAppendResult addMessage(Integer memberId, Long productId, ChatMessage newMessage,
+        int window) {
+        try {
+            return appendAtomically(key(memberId, productId), Math.max(window, 1), newMessage);
         } catch (Exception e) {
-            log.error("Redis load 실패 (memberId={}, productId={}): {}", memberId, productId,
+            log.error("Redis addMessage 실패 (memberId={}, productId={}): {}", memberId, productId,
                 e.getMessage(), e);
+            List<ChatMessage> history = new ArrayList<>();
+            history.add(newMessage);
+            return new ChatAppendResult(0L, 0L, history);
+        }
+    }
+
+    /**
+     * 세션의 [start, end] 구간 메시지 (LRANGE, 양 끝 포함)
+     */
+    public List<ChatMessage> range(Integer memberId, Long productId, long start, long end) {
+        String redisKey = key(memberId, productId);
+        try {
+            return deserialize(withLegacyMigration(redisKey,
+                () -> redis.opsForList().range(redisKey, start, end)));
+        } catch (Exception e) {
+            log.error("Redis range 실패 (memberId={}, productId={}): {}", memberId, productId,
+                e.getMessage());
             return new ArrayList<>();
         }
     }
 
-    // 대화 저장
-    public void save(Integer memberId, Long productId, List<ChatMessage> history) {
+    /**
+     * 캐시된 이전 대화 발췌 불러오기
+     *
+     * @return 발췌 정보, 없으면 null
+     */
+    public ChatDigest loadDigest(Integer memberId, Long productId) {
         try {
-            String s = om.writeValueAsString(history);
-            redis.opsForValue().set(key(memberId, productId), s, TTL);
+            List<Object> values = redis.opsForHash()
+                .multiGet(digestKey(memberId, productId), List.of("upto", "text"));
+            if (values.get(0) == null || values.get(1) == null) {
+                return null;
+            }
+            return new ChatDigest(Long.parseLong((String) values.get(0)),
+                (String) values.get(1));
         } catch (Exception e) {
-            log.error("Redis save 실패 (memberId={}, productId={}): {}", memberId, productId,
-                e.getMessage(), e);
+            log.error("Redis digest load 실패 (memberId={}, productId={}): {}", memberId,
+                productId, e.getMessage());
+            return null;
         }
     }
 
-    // 유저,에이전트 메시지 추가 = 전체 이력 반환 (FastAPI 호출용)
-    public List<ChatMessage> addMessage(Integer memberId, Long productId, ChatMessage newMessage) {
-        List<ChatMessage> history = load(memberId, productId); // 이전 대화 불러오기
-        history.add(newMessage); // 새 메시지 추가
-        save(memberId, productId, history); // Redis 갱신
-        return history;
+    // 이전 대화 발췌 저장 (세션과 같은 TTL)
+    public void saveDigest(Integer memberId, Long productId, ChatDigest digest) {
+        String redisKey = digestKey(memberId, productId);
+        try {
+            redis.executePipelined((RedisCallback<Object>) conn -> {
+                byte[] rawKey = redisKey.getBytes(StandardCharsets.UTF_8);
+                conn.hashCommands().hMSet(rawKey, Map.of(
+                    "upto".getBytes(StandardCharsets.UTF_8),
+                    String.valueOf(digest.upto()).getBytes(StandardCharsets.UTF_8),
+                    "text".getBytes(StandardCharsets.UTF_8),
+                    digest.text().getBytes(StandardCharsets.UTF_8)));
+                conn.keyCommands().expire(rawKey, TTL.getSeconds());
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("Redis digest save 실패 (memberId={}, productId={}): {}", memberId,
+                productId, e.getMessage());
+        }
     }
 
     // 대화 삭제
@@ -69,6 +172,7 @@ public class RedisChatService {
         try {
             String redisKey = key(memberId, productId);
             Boolean result = redis.delete(redisKey);
+            redis.delete(digestKey(memberId, productId));
             if (result) {
                 log.info("delete 성공 (memberId={}, productId={})", memberId, productId);
             } else {
@@ -79,4 +183,133 @@ public class RedisChatService {
                 memberId, productId, e.getMessage(), e);
         }
     }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (chatProps.isMigrateLegacySessions()) {
+            migrateLegacySessions();
+        }
+    }
+
+    /**
+     * 예전 문자열 형식으로 남아있는 세션 키를 모두 LIST 형식으로 변환
+     *
+     * @return 변환된 키 개수
+     */
+    public int migrateLegacySessions() {
+        int migrated = 0;
+        try (Cursor<String> cursor = redis.scan(
+            ScanOptions.scanOptions().match(KEY_PATTERN).count(500).build())) {
+            while (cursor.hasNext()) {
+                String redisKey = cursor.next();
+                if (SESSION_KEY.matcher(redisKey).matches() && convertLegacy(redisKey) >= 0) {
+                    migrated++;
+                }
+            }
+        }
+        log.info("레거시 채팅 세션 변환 완료: {}건", migrated);
+        return migrated;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChatAppendResult appendAtomically(String redisKey, int window,
+        ChatMessage... messages) throws JsonProcessingException {
+        String[] values = serialize(messages);
+        String[] args = new String[values.length + 2];
+        args[0] = String.valueOf(TTL.getSeconds());
+        args[1] = String.valueOf(window);
+        System.arraycopy(values, 0, args, 2, values.length);
+
+        List<Object> result = withLegacyMigration(redisKey,
+            () -> redis.execute(APPEND_SCRIPT, List.of(redisKey), (Object[]) args));
+        long sequence = (Long) result.get(0);
+        if (window == 0) {
+            return new ChatAppendResult(sequence, sequence, new ArrayList<>());
+        }
+        List<String> raw = (List<String>) result.get(1);
+        List<ChatMessage> history = deserialize(raw);
+        return new ChatAppendResult(sequence, sequence - raw.size(), history);
+    }
+
+    // WRONGTYPE(예전 문자열 키)이면 해당 키만 변환 후 한 번 재시도
+    private <T> T withLegacyMigration(String redisKey, Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (DataAccessException e) {
+            if (!isWrongType(e) || !migrateLegacy(redisKey)) {
+                throw e;
+            }
+            return operation.get();
+        }
+    }
+
+    // 변환 후 LIST로 쓸 수 있으면 true (다른 요청이 먼저 변환했거나 키가 만료된 경우 포함)
+    private boolean migrateLegacy(String redisKey) {
+        return convertLegacy(redisKey) >= -1;
+    }
+
+    // 문자열 키(ChatMessage[] JSON) → LIST 변환, 남은 TTL 유지 (스크립트 반환값 그대로, 실패 시 -2)
+    private long convertLegacy(String redisKey) {
+        try {
+            Long converted = redis.execute(MIGRATE_SCRIPT, List.of(redisKey),
+                String.valueOf(TTL.getSeconds()));
+            long result = converted == null ? -2 : converted;
+            if (result >= 0) {
+                log.info("레거시 채팅 세션 변환: key={}, messages={}", redisKey, result);
+            }
+            return result;
+        } catch (DataAccessException e) {
+            log.error("레거시 채팅 세션 변환 실패 (key={}): {}", redisKey, e.getMessage());
+            return -2;
+        }
+    }
+
+    private boolean isWrongType(Throwable e) {
+        if (e instanceof RedisPipelineException pe) {
+            for (Object result : pe.getPipelineResult()) {
+                if (result instanceof Throwable t && isWrongType(t)) {
+                    return true;
+                }
+            }
+        }
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("WRONGTYPE")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String[] serialize(ChatMessage... messages) throws JsonProcessingException {
+        String[] values = new String[messages.length];
+        for (int i = 0; i < messages.length; i++) {
+            values[i] = om.writeValueAsString(messages[i]);
+        }
+        return values;
+    }
+
+    private List<ChatMessage> deserialize(List<String> raw) {
+        List<ChatMessage> history = new ArrayList<>(raw == null ? 0 : raw.size());
+        if (raw == null) {
+            return history;
+        }
+        for (String value : raw) {
+            try {
+                history.add(om.readValue(value, ChatMessage.class));
+            } catch (JsonProcessingException e) {
+                log.warn("채팅 메시지 파싱 실패, 건너뜀: {}", e.getMessage());
+            }
+        }
+        return history;
+    }
+
+    /**
+     * 잘려나간 앞부분 대화의 발췌 (요약이 아니라 줄마다 잘라 붙인 Q/A 기록)
+     *
+     * @param upto 발췌에 반영된 메시지 수 (세션의 [0, upto) 구간)
+     * @param text 발췌 본문
+     */
+    public record ChatDigest(long upto, String text) {
+
+    }
 }
@@ -2,12 +2,9 @@ package com.gigigenie.domain.favorite.service;
 
 import com.gigigenie.domain.favorite.entity.Favorite;
 import com.gigigenie.domain.favorite.repository.FavoriteRepository;
-import com.gigigenie.domain.member.dto.MemberDTO;
 import com.gigigenie.domain.member.entity.Member;
-import com.gigigenie.domain.member.repository.MemberRepository;
 import com.gigigenie.domain.product.entity.Product;
-import com.gigigenie.domain.product.repository.ProductRepository;
-import jakarta.persistence.EntityNotFoundException;
+import com.gigigenie.util.EntityResolver;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,12 +19,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class FavoriteServiceImpl implements FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
-    private final MemberRepository memberRepository;
-    private final ProductRepository productRepository;
+    private final EntityResolver entityResolver;
 
     @Override
     public List<Long> list(Authentication authentication) {
-        Member member = findMember(authentication);
+        Member member = entityResolver.memberRef(authentication);
         List<Favorite> favorites = favoriteRepository.findByMember(member);
         if (favorites.isEmpty()) {
             return List.of();
@@ -40,8 +36,8 @@ public class FavoriteServiceImpl implements FavoriteService {
 
     @Override
     public void addFavorite(Long productId, Authentication authentication) {
-        Member member = findMember(authentication);
-        Product product = findProduct(productId);
+        Member member = entityResolver.memberRef(authentication);
+        Product product = entityResolver.productRef(productId);
 
         List<Favorite> existingFavorites = favoriteRepository.findByMember(member);
         boolean alreadyExists = existingFavorites.stream()
@@ -58,19 +54,8 @@ public class FavoriteServiceImpl implements FavoriteService {
 
     @Override
     public void deleteFavorite(Long productId, Authentication authentication) {
-        Member member = findMember(authentication);
-        Product product = findProduct(productId);
+        Member member = entityResolver.memberRef(authentication);
+        Product product = entityResolver.productRef(productId);
         favoriteRepository.deleteByProductAndMember(product, member);
     }
-
-    private Member findMember(Authentication authentication) {
-        MemberDTO memberDTO = (MemberDTO) authentication.getPrincipal();
-        return memberRepository.findById(memberDTO.getId())
-            .orElseThrow(() -> new EntityNotFoundException("Member not found"));
-    }
-
-    private Product findProduct(Long productId) {
-        return productRepository.findById(productId)
-            .orElseThrow(() -> new EntityNotFoundException("Product not found"));
-    }
 }
@@ -7,6 +7,7 @@ import com.gigigenie.domain.member.dto.MemberDTO;
 import com.gigigenie.domain.member.service.MemberService;
 import com.gigigenie.exception.CustomJWTException;
 import com.gigigenie.props.JwtProps;
+import com.gigigenie.security.filter.VerifiedTokenCache;
 import com.gigigenie.util.CookieUtil;
 import com.gigigenie.util.JWTUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,6 +31,7 @@ public class MemberController {
     private final MemberService memberService;
     private final JWTUtil jwtUtil;
     private final JwtProps jwtProps;
+    private final VerifiedTokenCache tokenCache;
 
     @Operation(summary = "회원가입")
     @PostMapping("/join")
@@ -73,7 +75,10 @@ public class MemberController {
 
     @Operation(summary = "로그아웃")
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletResponse response) {
+    public ResponseEntity<String> logout(
+            @CookieValue(value = "accessToken", required = false) String accessToken,
+            HttpServletResponse response) {
+        tokenCache.invalidate(accessToken);
         CookieUtil.removeTokenCookie(response, "accessToken");
         CookieUtil.removeTokenCookie(response, "refreshToken");
         SecurityContextHolder.clearContext();
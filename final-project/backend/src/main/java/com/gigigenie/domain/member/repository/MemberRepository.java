@@ -2,8 +2,10 @@ package com.gigigenie.domain.member.repository;
 
 import com.gigigenie.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -11,4 +13,10 @@ public interface MemberRepository extends JpaRepository<Member, Integer>{
     @Query("select u from Member u where u.email = :email")
     Optional<Member> findByEmail(@Param("email") String email);
 
+    // 로그인 시 해시 cost 갱신 (짧은 쓰기 트랜잭션)
+    @Modifying
+    @Transactional
+    @Query("update Member u set u.password = :password where u.memberId = :memberId")
+    int updatePassword(@Param("memberId") Integer memberId, @Param("password") String password);
+
 }
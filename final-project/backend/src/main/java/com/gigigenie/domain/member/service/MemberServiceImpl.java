@@ -5,12 +5,16 @@ import com.gigigenie.domain.member.dto.MemberDTO;
 import com.gigigenie.domain.member.entity.Member;
 import com.gigigenie.domain.member.enums.MemberRole;
 import com.gigigenie.domain.member.repository.MemberRepository;
+import com.gigigenie.exception.ServerBusyException;
+import com.gigigenie.security.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -20,9 +24,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final MeterRegistry meterRegistry;
 
+    // BCrypt 대기/해시 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행 (save는 자체 트랜잭션)
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void join(JoinDTO joinDTO) {
         memberRepository.findByEmail(joinDTO.getEmail())
             .ifPresent(member -> {
@@ -31,7 +38,7 @@ public class MemberServiceImpl implements MemberService {
 
         Member member = Member.builder()
             .email(joinDTO.getEmail())
-            .password(passwordEncoder.encode(joinDTO.getPassword()))
+            .password(passwordHasher.encode(joinDTO.getPassword()))
             .name(joinDTO.getName())
             .role(MemberRole.USER)
             .joinDate(LocalDateTime.now())
@@ -50,15 +57,46 @@ public class MemberServiceImpl implements MemberService {
         }
     }
 
+    // BCrypt 대기/해시 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MemberDTO login(String id, String password) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try {
+            MemberDTO memberDTO = authenticate(id, password);
+            result = "success";
+            return memberDTO;
+        } catch (ServerBusyException e) {
+            result = "rejected";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("member.login").tag("result", result)
+                .publishPercentiles(0.5, 0.99).register(meterRegistry));
+        }
+    }
+
+    private MemberDTO authenticate(String id, String password) {
         Member member = memberRepository.findByEmail(id)
             .orElseThrow(() -> new BadCredentialsException("Invalid username or password"));
 
-        if (!passwordEncoder.matches(password, member.getPassword())) {
+        if (!passwordHasher.matches(password, member.getPassword())) {
             throw new BadCredentialsException("Invalid username or password");
         }
 
+        // cost 설정이 올라갔으면 확인된 평문으로 다시 해시해 저장 (바쁘면 다음 로그인으로 미룸)
+        if (passwordHasher.needsUpgrade(member.getPassword())) {
+            try {
+                String upgraded = passwordHasher.encode(password);
+                memberRepository.updatePassword(member.getMemberId(), upgraded);
+                member.setPassword(upgraded);
+                log.info("비밀번호 해시 cost 갱신 (memberId={})", member.getMemberId());
+            } catch (ServerBusyException e) {
+                log.warn("비밀번호 해시 갱신 생략 (memberId={}): {}", member.getMemberId(),
+                    e.getMessage());
+            }
+        }
+
         return new MemberDTO(member.getMemberId(), member.getEmail(), member.getPassword(),
             member.getName(),
             member.getRole());
@@ -1,12 +1,10 @@
 package com.gigigenie.domain.notification.service;
 
-import com.gigigenie.domain.member.dto.MemberDTO;
 import com.gigigenie.domain.member.entity.Member;
-import com.gigigenie.domain.member.repository.MemberRepository;
 import com.gigigenie.domain.notification.dto.NotificationDTO;
 import com.gigigenie.domain.notification.entity.Notification;
 import com.gigigenie.domain.notification.repository.NotificationRepository;
-import jakarta.persistence.EntityNotFoundException;
+import com.gigigenie.util.EntityResolver;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -22,11 +20,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final MemberRepository memberRepository;
+    private final EntityResolver entityResolver;
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
 
     public void addNotification(String message, String title, Authentication authentication) {
-        Member member = findMember(authentication);
+        Member member = entityResolver.memberRef(authentication);
 
         Notification notification = Notification.builder()
             .member(member)
@@ -39,9 +37,8 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     public List<NotificationDTO> getNotifications(Authentication authentication) {
-        Member member = findMember(authentication);
         List<Notification> notifications = notificationRepository.findByMemberIdOrderByCreatedAtDesc(
-            member.getMemberId());
+            entityResolver.currentMemberId(authentication));
 
         return notifications.stream()
             .map(notification -> NotificationDTO.builder()
@@ -56,11 +53,4 @@ public class NotificationServiceImpl implements NotificationService {
     public void removeNotification(Integer notificationId) {
         notificationRepository.deleteById(notificationId);
     }
-
-    private Member findMember(Authentication authentication) {
-        MemberDTO memberDTO = (MemberDTO) authentication.getPrincipal();
-        return memberRepository.findById(memberDTO.getId())
-            .orElseThrow(() -> new EntityNotFoundException("Member not found"));
-    }
-
 }
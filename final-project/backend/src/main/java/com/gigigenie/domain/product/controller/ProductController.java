@@ -1,5 +1,8 @@
 package com.gigigenie.domain.product.controller;
 
+import com.gigigenie.domain.product.dto.IndexingJob;
+import com.gigigenie.domain.product.dto.ProductCatalog;
+import com.gigigenie.domain.product.dto.ProductPageResponse;
 import com.gigigenie.domain.product.dto.ProductResponse;
 import com.gigigenie.domain.product.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,16 +11,21 @@ import java.net.URI;
 import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequiredArgsConstructor
 @RequestMapping("/api/product")
@@ -26,19 +34,51 @@ public class ProductController {
 
     private final ProductService productService;
 
-    @Operation(summary = "제품 전체 조회")
+    @Operation(summary = "제품 전체 조회 (ETag / If-None-Match 지원)")
     @GetMapping("/list")
-    public ResponseEntity<List<ProductResponse>> list() {
-        List<ProductResponse> list = productService.list();
-        return ResponseEntity.ok(list);
+    public ResponseEntity<List<ProductResponse>> list(WebRequest request) {
+        ProductCatalog catalog = productService.catalog();
+        if (request.checkNotModified(catalog.getEtag())) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok()
+            .eTag(catalog.getEtag())
+            .cacheControl(CacheControl.noCache())
+            .body(catalog.getItems());
+    }
+
+    @Operation(summary = "제품 목록 페이지 조회 (최신순, 키셋 페이지네이션)")
+    @GetMapping("/list/page")
+    public ResponseEntity<ProductPageResponse> page(
+        @Parameter(description = "카테고리ID 필터")
+        @RequestParam(required = false) Integer categoryId,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최대 100)")
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(productService.page(categoryId, cursor, size));
+    }
+
+    @Operation(summary = "제품 검색 (모델명 일부/접두어, 카테고리명)")
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductResponse>> search(
+        @Parameter(description = "검색어 (모델명 일부, 카테고리명)")
+        @RequestParam(defaultValue = "") String query,
+        @Parameter(description = "카테고리ID 필터")
+        @RequestParam(required = false) Integer categoryId,
+        @Parameter(description = "최대 결과 수 (최대 50)")
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(productService.search(query, categoryId, limit));
     }
 
     @Operation(
         summary = "PDF 파일 업로드 및 임베딩 처리",
-        description = "PDF 업로드 → 텍스트 추출 → 임베딩 → vectorDB 저장 및 파일을 S3에 저장"
+        description = "파일을 S3에 저장 후 작업 ID 반환(202), 텍스트 추출 → 임베딩 → vectorDB 저장은 백그라운드에서 처리"
     )
     @PostMapping("/upload")
-    public ResponseEntity<String> uploadPdf(
+    public ResponseEntity<?> uploadPdf(
         @Parameter(description = "업로드할 PDF 파일", required = true)
         @RequestParam MultipartFile file,
         @Parameter(description = "카테고리ID", required = true)
@@ -75,17 +115,32 @@ public class ProductController {
             }
         }
 
-        String result = productService.processPdf(file, categoryId, name, image, authentication);
-        return ResponseEntity.ok(result);
+        IndexingJob job = productService.processPdf(file, categoryId, name, image, authentication);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/product/jobs/" + job.getJobId()))
+            .body(job);
+    }
+
+    @Operation(summary = "PDF 인덱싱 작업 상태 조회")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<IndexingJob> getJob(@PathVariable String jobId,
+        Authentication authentication) {
+        return ResponseEntity.ok(productService.getJob(jobId, authentication));
     }
 
     @Operation(summary = "제품 사용 설명서 다운로드(PDF)")
     @GetMapping("/{productId}/download")
-    public ResponseEntity<Void> downloadPdf(@PathVariable Long productId,
-        Authentication authentication) {
-        String url = productService.downloadPdf(productId, authentication);
+    public ResponseEntity<Void> downloadPdf(@PathVariable Long productId) {
+        String url = productService.downloadPdf(productId);
         return ResponseEntity.status(HttpStatus.FOUND)
             .location(URI.create(url))
             .build();
     }
+
+    @Operation(summary = "제품 사용 설명서 스트리밍(PDF, Range 요청 지원)")
+    @GetMapping("/{productId}/manual")
+    public ResponseEntity<StreamingResponseBody> streamPdf(@PathVariable Long productId,
+        @RequestHeader HttpHeaders headers) {
+        return productService.streamPdf(productId, headers);
+    }
 }
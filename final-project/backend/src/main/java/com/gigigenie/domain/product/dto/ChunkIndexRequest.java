@@ -0,0 +1,16 @@
+package com.gigigenie.domain.product.dto;
+
+import com.gigigenie.util.pdf.PdfChunk;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkIndexRequest {
+
+    private Long productId;
+    private List<PdfChunk> chunks;
+}
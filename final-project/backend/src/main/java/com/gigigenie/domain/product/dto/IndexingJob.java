@@ -0,0 +1,35 @@
+package com.gigigenie.domain.product.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Setter
+public class IndexingJob {
+
+    private String jobId;
+    private Long productId;
+    private String modelName;
+    private Long linkedFrom; // 같은 PDF로 인덱싱된 제품 ID (있으면 임베딩 없이 연결)
+    private State state;
+    private String message; // 성공 시 RAG 서버 메시지
+    private String error; // 실패 사유
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMs; // 인덱싱 소요 시간
+
+    private Integer memberId; // 작업을 요청한 회원 (본인만 조회)
+
+    public enum State {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+}
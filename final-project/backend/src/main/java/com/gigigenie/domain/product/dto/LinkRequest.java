@@ -0,0 +1,14 @@
+package com.gigigenie.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LinkRequest {
+
+    private Long sourceProductId; // 같은 PDF로 이미 인덱싱된 제품
+    private Long productId;
+}
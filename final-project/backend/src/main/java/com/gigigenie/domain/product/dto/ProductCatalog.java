@@ -0,0 +1,14 @@
+package com.gigigenie.domain.product.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductCatalog {
+
+    private long version; // Redis 카탈로그 버전
+    private String etag; // 목록 내용 해시 (강한 ETag)
+    private List<ProductResponse> items;
+}
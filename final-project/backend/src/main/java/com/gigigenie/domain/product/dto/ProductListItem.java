@@ -0,0 +1,13 @@
+package com.gigigenie.domain.product.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제품 목록 조회용 프로젝션 (JPQL 생성자 표현식, 엔티티를 만들지 않음)
+ *
+ * @param iconUrl 제품 이미지, 없으면 카테고리 아이콘
+ */
+public record ProductListItem(Long productId, String modelName, String iconUrl,
+                              LocalDateTime createdAt) {
+
+}
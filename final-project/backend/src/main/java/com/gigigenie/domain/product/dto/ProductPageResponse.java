@@ -0,0 +1,18 @@
+package com.gigigenie.domain.product.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+public class ProductPageResponse {
+
+    private List<ProductResponse> items;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 값 (마지막 페이지면 null)
+    private boolean hasNext;
+}
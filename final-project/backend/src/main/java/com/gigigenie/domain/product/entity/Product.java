@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -25,7 +26,10 @@ import org.hibernate.annotations.ColumnDefault;
 @Getter
 @Setter
 @Entity
-@Table(name = "product")
+@Table(name = "product", indexes = {
+    @Index(name = "idx_product_content_hash", columnList = "content_hash"),
+    @Index(name = "idx_product_created_at_id", columnList = "created_at, product_id")
+})
 public class Product {
 
     @Id
@@ -49,6 +53,14 @@ public class Product {
     @Column(name = "model_key")
     private String modelKey;
 
+    // PDF 내용 SHA-256 (같은 설명서 재업로드 시 S3 객체와 벡터스토어 재사용)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 인덱싱 완료 시각 (null이면 아직 인덱싱 중, 완료된 제품만 같은 PDF 재사용 대상)
+    @Column(name = "indexed_at")
+    private LocalDateTime indexedAt;
+
     @NotNull
     @ColumnDefault("CURRENT_TIMESTAMP")
     @Column(name = "created_at", nullable = false)
@@ -1,17 +1,70 @@
 package com.gigigenie.domain.product.repository;
 
+import com.gigigenie.domain.product.dto.ProductListItem;
 import com.gigigenie.domain.product.entity.Product;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-    @Query("SELECT p FROM Product p JOIN FETCH p.category")
+    // 목록/검색 대상 (인덱싱이 끝난 제품만, 대기/진행 중인 제품은 실패 시 삭제될 수 있으므로 제외)
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.indexedAt IS NOT NULL")
     List<Product> findAllWithCategory();
 
+    // 키셋 페이지네이션 (created_at DESC, product_id DESC, 인덱싱 완료 제품만) - 첫 페이지
+    @Query("SELECT new com.gigigenie.domain.product.dto.ProductListItem("
+        + "p.id, p.modelName, COALESCE(p.modelImage, c.categoryIcon), p.createdAt) "
+        + "FROM Product p JOIN p.category c "
+        + "WHERE p.indexedAt IS NOT NULL "
+        + "AND (:categoryId IS NULL OR c.id = :categoryId) "
+        + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductListItem> findFirstPage(@Param("categoryId") Integer categoryId,
+        Pageable pageable);
+
+    // 키셋 페이지네이션 - (createdAt, id) 커서 이후
+    @Query("SELECT new com.gigigenie.domain.product.dto.ProductListItem("
+        + "p.id, p.modelName, COALESCE(p.modelImage, c.categoryIcon), p.createdAt) "
+        + "FROM Product p JOIN p.category c "
+        + "WHERE p.indexedAt IS NOT NULL "
+        + "AND (:categoryId IS NULL OR c.id = :categoryId) "
+        + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+        + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductListItem> findPageAfter(@Param("categoryId") Integer categoryId,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     @Query("SELECT p FROM Product p WHERE p.modelName = :name")
     Optional<Product> findByModelName(@Param("name") String name);
+
+    @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id = :id")
+    Optional<Product> findByIdWithCategory(@Param("id") Long id);
+
+    @Query("SELECT p.modelKey FROM Product p WHERE p.id = :id AND p.modelKey IS NOT NULL")
+    Optional<String> findModelKeyById(@Param("id") Long id);
+
+    // S3 고아 파일 정리용 (제품이 참조하는 PDF 키와 이미지 URL)
+    @Query("SELECT p.modelKey FROM Product p WHERE p.modelKey IS NOT NULL")
+    List<String> findAllModelKeys();
+
+    @Query("SELECT p.modelImage FROM Product p WHERE p.modelImage IS NOT NULL")
+    List<String> findAllModelImages();
+
+    // 같은 PDF로 인덱싱을 마친 제품 (대기/진행 중인 제품은 실패 시 삭제될 수 있으므로 제외)
+    Optional<Product> findFirstByContentHashAndIndexedAtIsNotNullOrderByIdAsc(String contentHash);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET p.indexedAt = :indexedAt WHERE p.id = :id")
+    int markIndexed(@Param("id") Long id, @Param("indexedAt") LocalDateTime indexedAt);
+
+    // 주어진 키 중 아직 제품이 참조하는 PDF 키 (실패 정리 시 공유 중인 객체 보호)
+    @Query("SELECT p.modelKey FROM Product p WHERE p.modelKey IN :keys")
+    List<String> findModelKeysIn(@Param("keys") Collection<String> keys);
 }
@@ -0,0 +1,55 @@
+package com.gigigenie.domain.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gigigenie.domain.product.dto.IndexingJob;
+import com.gigigenie.props.ProductProps;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인덱싱 작업 상태 저장소
+ * <p>
+ * 작업 하나를 product:job:{jobId} 문자열 키(JSON)로 저장하고 상태가 바뀔 때마다 TTL과 함께 덮어쓴다. 어느 인스턴스가
+ * 업로드를 받았든 같은 jobId로 조회할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexingJobStore {
+
+    private static final String KEY_PREFIX = "product:job:";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final ProductProps productProps;
+
+    public void save(IndexingJob job) {
+        try {
+            redis.opsForValue().set(KEY_PREFIX + job.getJobId(),
+                objectMapper.writeValueAsString(job), productProps.getIndexing().getJobTtl());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("인덱싱 작업 직렬화 실패", e);
+        } catch (Exception e) {
+            // 상태 저장 실패가 인덱싱 자체를 실패시키지 않도록 기록만 남김
+            log.error("인덱싱 작업 상태 저장 실패 (jobId={}, state={}): {}", job.getJobId(),
+                job.getState(), e.getMessage());
+        }
+    }
+
+    public Optional<IndexingJob> find(String jobId) {
+        String json = redis.opsForValue().get(KEY_PREFIX + jobId);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json, IndexingJob.class));
+        } catch (JsonProcessingException e) {
+            log.error("인덱싱 작업 파싱 실패 (jobId={}): {}", jobId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
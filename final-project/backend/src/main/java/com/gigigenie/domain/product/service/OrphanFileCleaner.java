@@ -0,0 +1,129 @@
+package com.gigigenie.domain.product.service;
+
+import com.gigigenie.domain.product.repository.ProductRepository;
+import com.gigigenie.props.ProductProps;
+import com.gigigenie.util.files.CustomFileUtil;
+import com.gigigenie.util.files.S3DeleteResult;
+import com.gigigenie.util.files.ThumbnailGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 어떤 제품도 참조하지 않는 S3 파일 정리
+ * <p>
+ * 버킷에서 orphanMinAge보다 오래되고 이 애플리케이션이 만든 형식의 키만 후보로 잡은 뒤, Product.modelKey와
+ * modelImage(모든 썸네일 크기 포함)가 참조하지 않는 키를 일괄 삭제한다. 같은 PDF를 공유하는 제품은 같은 modelKey를
+ * 가지므로 하나라도 남아 있으면 지우지 않는다. 여러 인스턴스에서는 Redis 리스를 잡은 한 곳만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanFileCleaner {
+
+    private static final String LOCK_KEY = "product:cleanup:orphan:lock";
+    // {UUID}-{원본 이름} 또는 {썸네일 접두어}_{UUID}-{원본 이름}
+    private static final Pattern APP_KEY = Pattern.compile(
+        "^(?:[a-z]+_)?[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}-.+");
+    // 리스 소유자만 해제
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+            + "return 0", Long.class);
+
+    private final ProductRepository productRepository;
+    private final CustomFileUtil fileUtil;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ProductProps productProps;
+    private final StringRedisTemplate redis;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${app.props.product.cleanup.orphan-interval:6h}",
+        initialDelayString = "${app.props.product.cleanup.orphan-initial-delay:10m}")
+    public void scheduledCleanup() {
+        ProductProps.Cleanup props = productProps.getCleanup();
+        if (!props.isOrphanEnabled()) {
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(
+            redis.opsForValue().setIfAbsent(LOCK_KEY, token, props.getOrphanLease()))) {
+            log.info("S3 고아 파일 정리: 다른 인스턴스에서 실행 중");
+            return;
+        }
+        try {
+            cleanup();
+        } catch (Exception e) {
+            log.error("S3 고아 파일 정리 실패: {}", e.getMessage(), e);
+        } finally {
+            redis.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    /**
+     * 고아 파일 정리 1회 실행
+     *
+     * @return 삭제 결과 (dry-run이면 삭제 0건)
+     */
+    public S3DeleteResult cleanup() {
+        ProductProps.Cleanup props = productProps.getCleanup();
+        Instant cutoff = Instant.now().minus(props.getOrphanMinAge());
+
+        // 목록을 먼저 만든 뒤 참조를 읽어 그 사이 저장된 제품의 파일을 지우지 않음
+        List<String> candidates = fileUtil.listS3FilesOlderThan(cutoff).stream()
+            .filter(key -> APP_KEY.matcher(key).matches())
+            .toList();
+        Set<String> referenced = referencedKeys();
+        List<String> orphans = candidates.stream()
+            .filter(key -> !referenced.contains(key))
+            .toList();
+
+        if (orphans.isEmpty()) {
+            log.info("S3 고아 파일 없음 (후보 {}건)", candidates.size());
+            return new S3DeleteResult(0, Map.of());
+        }
+        if (props.isOrphanDryRun()) {
+            log.info("S3 고아 파일 {}건 (dry-run, 삭제 안 함): {}", orphans.size(),
+                orphans.stream().limit(20).toList());
+            return new S3DeleteResult(0, Map.of());
+        }
+
+        S3DeleteResult result = fileUtil.deleteS3Files(orphans);
+        meterRegistry.counter("product.cleanup.orphan", "result", "deleted")
+            .increment(result.deleted());
+        meterRegistry.counter("product.cleanup.orphan", "result", "failed")
+            .increment(result.failures().size());
+        log.info("S3 고아 파일 정리 완료: 후보={}, 삭제={}, 실패={}", candidates.size(),
+            result.deleted(), result.failures().size());
+        return result;
+    }
+
+    private Set<String> referencedKeys() {
+        Set<String> keys = new HashSet<>(productRepository.findAllModelKeys());
+        for (String imageUrl : productRepository.findAllModelImages()) {
+            keys.addAll(thumbnailGenerator.variantKeys(keyOf(imageUrl)));
+        }
+        return keys;
+    }
+
+    // S3 객체 URL → 키 (URL 인코딩 해제)
+    private static String keyOf(String url) {
+        try {
+            String path = URI.create(url).getPath();
+            return path.substring(path.lastIndexOf('/') + 1);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return url.substring(url.lastIndexOf('/') + 1);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.gigigenie.domain.product.service;
+
+import com.gigigenie.domain.product.dto.ProductCatalog;
+import com.gigigenie.domain.product.dto.ProductResponse;
+import com.gigigenie.domain.product.entity.Product;
+import com.gigigenie.domain.product.repository.ProductRepository;
+import com.gigigenie.props.ProductProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제품 목록 스냅샷 캐시
+ * <p>
+ * /api/product/list 응답을 버전이 붙은 불변 스냅샷으로 인스턴스 메모리에 보관하고, 내용 해시를 강한 ETag로 쓴다.
+ * 제품이 바뀌면 Redis 버전 키(product:catalog:version)를 올리고 {@link ProductChangeNotifier}가 pub/sub으로 모든
+ * 노드의 스냅샷을 버린다. 메시지를 놓친 노드도 versionCheckInterval마다 버전 키를 확인해 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class ProductCatalogCache {
+
+    static final String VERSION_KEY = "product:catalog:version";
+
+    private final ProductRepository productRepository;
+    private final StringRedisTemplate redis;
+    private final ProductProps.Catalog props;
+
+    private final Counter hits;
+    private final Counter loads;
+
+    private volatile ProductCatalog snapshot;
+    private volatile long lastVersionCheck;
+
+    public ProductCatalogCache(ProductRepository productRepository, StringRedisTemplate redis,
+        ProductProps productProps, MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.redis = redis;
+        this.props = productProps.getCatalog();
+        this.hits = Counter.builder("product.catalog.cache")
+            .tag("result", "hit").register(meterRegistry);
+        this.loads = Counter.builder("product.catalog.cache")
+            .tag("result", "load").register(meterRegistry);
+    }
+
+    public ProductCatalog get() {
+        ProductCatalog current = snapshot;
+        if (current != null && !versionChanged(current)) {
+            hits.increment();
+            return current;
+        }
+        return reload();
+    }
+
+    // 이 노드의 스냅샷 폐기 (pub/sub 수신 시)
+    public void invalidateLocal() {
+        snapshot = null;
+    }
+
+    // 버전 증가 + 로컬 폐기 (다른 노드 전파는 ProductChangeNotifier)
+    public void bumpVersion() {
+        try {
+            redis.opsForValue().increment(VERSION_KEY);
+        } catch (Exception e) {
+            log.error("제품 목록 버전 갱신 실패: {}", e.getMessage());
+        }
+        invalidateLocal();
+    }
+
+    private synchronized ProductCatalog reload() {
+        // 다른 스레드가 먼저 적재했으면 그대로 사용
+        long version = readVersion();
+        ProductCatalog current = snapshot;
+        if (current != null && current.getVersion() == version) {
+            return current;
+        }
+
+        List<ProductResponse> items = productRepository.findAllWithCategory().stream()
+            .map(ProductCatalogCache::toResponse)
+            .toList();
+        ProductCatalog loaded = new ProductCatalog(version, etag(items), items);
+        snapshot = loaded;
+        lastVersionCheck = System.currentTimeMillis();
+        loads.increment();
+        log.info("제품 목록 스냅샷 적재: version={}, {}건", version, items.size());
+        return loaded;
+    }
+
+    private boolean versionChanged(ProductCatalog current) {
+        long now = System.currentTimeMillis();
+        if (now - lastVersionCheck < props.getVersionCheckInterval().toMillis()) {
+            return false;
+        }
+        lastVersionCheck = now;
+        return current.getVersion() != readVersion();
+    }
+
+    private long readVersion() {
+        try {
+            String value = redis.opsForValue().get(VERSION_KEY);
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (Exception e) {
+            log.error("제품 목록 버전 조회 실패: {}", e.getMessage());
+            ProductCatalog current = snapshot;
+            return current == null ? 0L : current.getVersion();
+        }
+    }
+
+    private static ProductResponse toResponse(Product product) {
+        return ProductResponse.builder()
+            .productId(product.getId())
+            .modelName(product.getModelName())
+            .iconUrl(product.getModelImage() != null ? product.getModelImage()
+                : product.getCategory().getCategoryIcon())
+            .build();
+    }
+
+    private static String etag(List<ProductResponse> items) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (ProductResponse item : items) {
+                digest.update((item.getProductId() + "\u0000" + item.getModelName() + "\u0000"
+                    + item.getIconUrl() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
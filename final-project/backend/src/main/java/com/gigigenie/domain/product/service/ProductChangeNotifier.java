@@ -0,0 +1,95 @@
+package com.gigigenie.domain.product.service;
+
+import com.gigigenie.domain.chat.service.ChatAnswerCache;
+import com.gigigenie.domain.product.repository.ProductRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제품 변경 전파
+ * <p>
+ * 제품이 인덱싱/삭제되면 카탈로그 버전을 올리고 product:changed 채널에 "{노드}:{이벤트}:{productId}"를
+ * 발행한다. 다른 노드는 메시지를 받아 목록 스냅샷을 버리고 검색 인덱스와 로컬 답변 캐시에도 반영한다. 저장만 된
+ * 제품은 인덱싱이 끝날 때까지 목록에 보이지 않으므로 별도 이벤트가 없다.
+ */
+@Slf4j
+@Component
+public class ProductChangeNotifier implements MessageListener {
+
+    private static final String CHANNEL = "product:changed";
+    // 자기 메시지는 publish 시 이미 반영했으므로 건너뜀
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public enum Event {
+        INDEXED, DELETED
+    }
+
+    private final StringRedisTemplate redis;
+    private final ProductCatalogCache catalogCache;
+    private final ProductSearchIndex searchIndex;
+    private final ProductDownloadUrlCache downloadUrlCache;
+    private final ProductRepository productRepository;
+    private final ChatAnswerCache chatAnswerCache;
+
+    public ProductChangeNotifier(StringRedisTemplate redis, ProductCatalogCache catalogCache,
+        ProductSearchIndex searchIndex, ProductDownloadUrlCache downloadUrlCache,
+        ProductRepository productRepository, ChatAnswerCache chatAnswerCache,
+        RedisMessageListenerContainer listenerContainer) {
+        this.redis = redis;
+        this.catalogCache = catalogCache;
+        this.searchIndex = searchIndex;
+        this.downloadUrlCache = downloadUrlCache;
+        this.productRepository = productRepository;
+        this.chatAnswerCache = chatAnswerCache;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void publish(Event event, Long productId) {
+        catalogCache.bumpVersion();
+        apply(event, productId);
+        try {
+            redis.convertAndSend(CHANNEL, nodeId + ":" + event.name() + ":" + productId);
+        } catch (Exception e) {
+            // 다른 노드는 버전 키 확인으로 뒤늦게 반영
+            log.error("제품 변경 발행 실패 ({}, productId={}): {}", event, productId,
+                e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            catalogCache.invalidateLocal();
+            apply(Event.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            log.warn("제품 변경 메시지 처리 실패 ({}): {}", body, e.getMessage());
+        }
+    }
+
+    private void apply(Event event, Long productId) {
+        switch (event) {
+            case INDEXED -> {
+                // 재인덱싱된 제품의 로컬 답변 캐시 무효화 (Redis 항목은 인덱싱한 노드가 삭제)
+                chatAnswerCache.evictLocal(productId);
+                productRepository.findByIdWithCategory(productId).ifPresent(searchIndex::add);
+            }
+            case DELETED -> {
+                searchIndex.remove(productId);
+                downloadUrlCache.evict(productId);
+                chatAnswerCache.evictLocal(productId);
+            }
+        }
+    }
+}
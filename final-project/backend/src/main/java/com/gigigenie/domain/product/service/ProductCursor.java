@@ -0,0 +1,30 @@
+package com.gigigenie.domain.product.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 제품 목록 키셋 커서 - 마지막으로 받은 행의 (createdAt, productId)를 불투명 문자열로 인코딩
+ */
+record ProductCursor(LocalDateTime createdAt, Long productId) {
+
+    String encode() {
+        String raw = createdAt + "|" + productId;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ProductCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new ProductCursor(LocalDateTime.parse(raw.substring(0, sep)),
+                Long.valueOf(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException
+                 | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 cursor 값입니다.");
+        }
+    }
+}
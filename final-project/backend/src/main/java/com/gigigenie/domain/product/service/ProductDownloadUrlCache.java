@@ -0,0 +1,84 @@
+package com.gigigenie.domain.product.service;
+
+import com.gigigenie.domain.product.repository.ProductRepository;
+import com.gigigenie.props.ProductProps;
+import com.gigigenie.util.files.CustomFileUtil;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설명서 다운로드 presigned URL 캐시
+ * <p>
+ * productId별로 modelKey와 서명된 URL을 보관하고 만료 refreshBefore 전까지 재사용한다. 제품의 modelKey는 바뀌지
+ * 않으므로 DB는 제품당 처음 한 번만 조회하고, 이후 다운로드는 메모리 조회 한 번으로 끝난다. 제품이 삭제되면
+ * {@link ProductChangeNotifier}가 항목을 지운다. 두 맵 모두 maxEntries를 넘으면 가장 오래 쓰이지 않은 항목부터 밀어낸다.
+ */
+@Slf4j
+@Component
+public class ProductDownloadUrlCache {
+
+    private final ProductRepository productRepository;
+    private final CustomFileUtil fileUtil;
+    private final ProductProps productProps;
+    private final Map<Long, Entry> entries;
+    private final Map<Long, String> modelKeys;
+
+    public ProductDownloadUrlCache(ProductRepository productRepository, CustomFileUtil fileUtil,
+        ProductProps productProps) {
+        this.productRepository = productRepository;
+        this.fileUtil = fileUtil;
+        this.productProps = productProps;
+        int maxEntries = productProps.getDownload().getMaxEntries();
+        this.entries = lru(maxEntries);
+        this.modelKeys = lru(maxEntries);
+    }
+
+    public String get(Long productId) {
+        ProductProps.Download props = productProps.getDownload();
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(productId);
+        if (entry != null && entry.expiresAt() - props.getRefreshBefore().toMillis() > now) {
+            return entry.url();
+        }
+
+        String modelKey = modelKey(productId);
+        String url = fileUtil.getPresignedUrl(modelKey, props.getUrlExpiry());
+        entries.put(productId, new Entry(url, now + props.getUrlExpiry().toMillis()));
+        return url;
+    }
+
+    // 제품 PDF의 S3 키 (바뀌지 않으므로 만료 없이 보관)
+    public String modelKey(Long productId) {
+        String modelKey = modelKeys.get(productId);
+        if (modelKey != null) {
+            return modelKey;
+        }
+        modelKey = productRepository.findModelKeyById(productId)
+            .orElseThrow(() -> new EntityNotFoundException("Product not found"));
+        modelKeys.put(productId, modelKey);
+        return modelKey;
+    }
+
+    public void evict(Long productId) {
+        entries.remove(productId);
+        modelKeys.remove(productId);
+    }
+
+    // 접근 순서 LRU (상한을 넘으면 가장 오래 쓰이지 않은 항목 제거)
+    private static <V> Map<Long, V> lru(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<Long, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private record Entry(String url, long expiresAt) {
+
+    }
+}
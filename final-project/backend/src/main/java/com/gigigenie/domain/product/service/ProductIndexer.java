@@ -0,0 +1,226 @@
+package com.gigigenie.domain.product.service;
+
+import com.gigigenie.domain.chat.service.ChatAnswerCache;
+import com.gigigenie.domain.notification.service.NotificationService;
+import com.gigigenie.domain.product.dto.IndexingJob;
+import com.gigigenie.domain.product.dto.LinkRequest;
+import com.gigigenie.domain.product.dto.UploadRequest;
+import com.gigigenie.domain.product.dto.UploadResponse;
+import com.gigigenie.domain.product.repository.ProductRepository;
+import com.gigigenie.exception.RagServiceUnavailableException;
+import com.gigigenie.util.files.CustomFileUtil;
+import com.gigigenie.util.pdf.PdfChunk;
+import com.gigigenie.util.pdf.PdfTextExtractor;
+import com.gigigenie.util.rag.ChunkIndexer;
+import com.gigigenie.util.rag.RagClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제품 PDF 백그라운드 인덱싱
+ * <p>
+ * 업로드 요청은 S3 저장과 Product 저장까지만 하고 작업을 등록한 뒤 바로 반환한다. 실제 RAG /upload 호출은
+ * indexingExecutor에서 실행되며 상태는 {@link IndexingJobStore}에 기록된다. 인덱싱이 실패하면 저장한 Product와
+ * S3 객체를 지워 검색되지 않는 제품이 남지 않게 하고, 결과는 성공/실패 모두 알림으로 전달한다. 같은 PDF가 이미
+ * 인덱싱되어 있으면 임베딩 대신 RAG /link로 벡터스토어를 복사하고, 그렇지 않으면 로컬 복사본에서 PDFBox로 추출한
+ * 청크를 보낸다. 추출할 수 없는 PDF(암호화, 텍스트 없는 스캔본)는 RAG 서버가 파일 URL로 직접 처리한다.
+ */
+@Slf4j
+@Component
+public class ProductIndexer {
+
+    private final ThreadPoolTaskExecutor indexingExecutor;
+    private final IndexingJobStore jobStore;
+    private final RagClient ragClient;
+    private final ChunkIndexer chunkIndexer;
+    private final PdfTextExtractor pdfTextExtractor;
+    private final ProductRepository productRepository;
+    private final CustomFileUtil fileUtil;
+    private final ChatAnswerCache chatAnswerCache;
+    private final ProductChangeNotifier changeNotifier;
+    private final NotificationService notificationService;
+    private final MeterRegistry meterRegistry;
+
+    public ProductIndexer(@Qualifier("indexingExecutor") ThreadPoolTaskExecutor indexingExecutor,
+        IndexingJobStore jobStore, RagClient ragClient, ChunkIndexer chunkIndexer,
+        PdfTextExtractor pdfTextExtractor, ProductRepository productRepository,
+        CustomFileUtil fileUtil, ChatAnswerCache chatAnswerCache, ProductChangeNotifier changeNotifier,
+        NotificationService notificationService, MeterRegistry meterRegistry) {
+        this.indexingExecutor = indexingExecutor;
+        this.jobStore = jobStore;
+        this.ragClient = ragClient;
+        this.chunkIndexer = chunkIndexer;
+        this.pdfTextExtractor = pdfTextExtractor;
+        this.productRepository = productRepository;
+        this.fileUtil = fileUtil;
+        this.chatAnswerCache = chatAnswerCache;
+        this.changeNotifier = changeNotifier;
+        this.notificationService = notificationService;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("product.indexing.queue", indexingExecutor,
+            e -> e.getThreadPoolExecutor().getQueue().size());
+        meterRegistry.gauge("product.indexing.active", indexingExecutor,
+            ThreadPoolTaskExecutor::getActiveCount);
+    }
+
+    /**
+     * 인덱싱 작업 등록
+     *
+     * @param job          QUEUED 상태의 작업 (productId 포함)
+     * @param fileUrl      RAG 서버가 내려받을 PDF URL
+     * @param pdfPath      텍스트를 추출할 로컬 PDF 복사본 (없으면 null, 작업이 끝나면 삭제)
+     * @param uploadedKeys 실패 시 지울 S3 키 목록
+     * @return 등록된 작업
+     * @throws RagServiceUnavailableException 대기열이 가득 찬 경우 (저장한 제품/파일은 정리됨)
+     */
+    public IndexingJob submit(IndexingJob job, String fileUrl, Path pdfPath,
+        List<String> uploadedKeys, Authentication authentication) {
+        jobStore.save(job);
+        try {
+            indexingExecutor.execute(
+                () -> run(job, fileUrl, pdfPath, uploadedKeys, authentication));
+        } catch (TaskRejectedException e) {
+            fileUtil.deleteTempFile(pdfPath);
+            log.warn("인덱싱 대기열 초과 (jobId={}, productId={})", job.getJobId(),
+                job.getProductId());
+            compensate(job.getProductId(), uploadedKeys);
+            finish(job, IndexingJob.State.FAILED, null, "인덱싱 대기열 초과");
+            throw new RagServiceUnavailableException(
+                "제품 등록 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+        return job;
+    }
+
+    private void run(IndexingJob job, String fileUrl, Path pdfPath, List<String> uploadedKeys,
+        Authentication authentication) {
+        job.setState(IndexingJob.State.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        jobStore.save(job);
+
+        try {
+            UploadResponse response = index(job, fileUrl, pdfPath);
+            log.info("RAG 인덱싱 성공: jobId={}, pdf_id={}, store_path={}", job.getJobId(),
+                response.getPdfId(), response.getStorePath());
+
+            // 인덱싱 완료 표시 (이후 같은 PDF 업로드는 이 제품을 재사용)
+            productRepository.markIndexed(job.getProductId(), LocalDateTime.now());
+
+            // 캐시된 답변 무효화 (Redis, 각 노드 로컬은 INDEXED 메시지로), 목록/검색 인덱스 반영
+            chatAnswerCache.evictProduct(job.getProductId());
+            changeNotifier.publish(ProductChangeNotifier.Event.INDEXED, job.getProductId());
+
+            finish(job, IndexingJob.State.SUCCEEDED, response.getMessage(), null);
+            notify(job.getModelName() + " 제품이 성공적으로 등록되었습니다.", "제품 등록 완료",
+                authentication);
+        } catch (Exception e) {
+            log.error("RAG 인덱싱 실패: jobId={}, productId={}: {}", job.getJobId(),
+                job.getProductId(), e.getMessage(), e);
+            compensate(job.getProductId(), uploadedKeys);
+            finish(job, IndexingJob.State.FAILED, null, e.getMessage());
+            notify(job.getModelName() + " 제품 등록에 실패했습니다.", "제품 등록 실패",
+                authentication);
+        } finally {
+            fileUtil.deleteTempFile(pdfPath);
+        }
+    }
+
+    // 같은 PDF로 인덱싱된 제품이 있으면 벡터스토어만 연결, 원본 저장소가 없으면 새로 인덱싱
+    UploadResponse index(IndexingJob job, String fileUrl, Path pdfPath) {
+        if (job.getLinkedFrom() != null) {
+            try {
+                return ragClient.link(new LinkRequest(job.getLinkedFrom(), job.getProductId()));
+            } catch (IllegalArgumentException e) {
+                log.warn("벡터스토어 연결 실패, 새로 인덱싱 (jobId={}, source={}): {}",
+                    job.getJobId(), job.getLinkedFrom(), e.getMessage());
+                job.setLinkedFrom(null);
+            }
+        }
+
+        // 로컬 복사본이 있으면 직접 추출한 청크를 전송 (RAG 서버의 S3 재다운로드/단일 스레드 파싱 생략)
+        if (pdfPath != null) {
+            List<PdfChunk> chunks = extract(job, pdfPath);
+            if (!chunks.isEmpty()) {
+                return chunkIndexer.indexChunks(job.getProductId(), chunks);
+            }
+        }
+        return ragClient.upload(new UploadRequest(job.getProductId(), fileUrl));
+    }
+
+    // 추출 실패(손상/암호화 PDF에서 PDFBox가 던지는 런타임 예외 포함)나 빈 결과는 RAG 서버 파싱으로 대체
+    private List<PdfChunk> extract(IndexingJob job, Path pdfPath) {
+        try {
+            List<PdfChunk> chunks = pdfTextExtractor.extract(pdfPath);
+            if (chunks.isEmpty()) {
+                log.warn("추출된 텍스트 없음, RAG 서버 파싱으로 대체 (jobId={})", job.getJobId());
+            }
+            return chunks;
+        } catch (IOException | RuntimeException e) {
+            log.warn("PDF 텍스트 추출 실패, RAG 서버 파싱으로 대체 (jobId={}): {}",
+                job.getJobId(), e.toString());
+            return List.of();
+        }
+    }
+
+    private void finish(IndexingJob job, IndexingJob.State state, String message, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        job.setState(state);
+        job.setMessage(message);
+        job.setError(error);
+        job.setFinishedAt(now);
+        if (job.getStartedAt() != null) {
+            job.setDurationMs(Duration.between(job.getStartedAt(), now).toMillis());
+            Timer.builder("product.indexing")
+                .tag("result", state.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .record(Duration.ofMillis(job.getDurationMs()));
+        }
+        jobStore.save(job);
+    }
+
+    // 인덱싱 실패 시 저장한 제품과 S3 객체 정리 (다른 제품이 참조 중인 키는 남김)
+    // 제품 행을 지우지 못하면 그 행이 가리키는 파일도 남긴다 (고아 파일은 정리 작업이 처리)
+    private void compensate(Long productId, List<String> uploadedKeys) {
+        try {
+            productRepository.deleteById(productId);
+            changeNotifier.publish(ProductChangeNotifier.Event.DELETED, productId);
+        } catch (Exception e) {
+            log.error("인덱싱 실패 제품 삭제 실패, 파일 유지 (productId={}, keys={}): {}", productId,
+                uploadedKeys, e.getMessage());
+            return;
+        }
+        try {
+            List<String> keys = new ArrayList<>(uploadedKeys);
+            if (!keys.isEmpty()) {
+                List<String> shared = productRepository.findModelKeysIn(keys);
+                if (!shared.isEmpty()) {
+                    log.info("다른 제품이 참조 중인 파일은 유지 (productId={}): {}", productId, shared);
+                    keys.removeAll(shared);
+                }
+            }
+            fileUtil.deleteS3Files(keys);
+        } catch (Exception e) {
+            log.error("인덱싱 실패 파일 삭제 실패 (keys={}): {}", uploadedKeys, e.getMessage());
+        }
+    }
+
+    private void notify(String message, String title, Authentication authentication) {
+        try {
+            notificationService.addNotification(message, title, authentication);
+        } catch (Exception e) {
+            log.error("인덱싱 결과 알림 실패: {}", e.getMessage());
+        }
+    }
+}
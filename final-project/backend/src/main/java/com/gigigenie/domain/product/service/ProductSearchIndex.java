@@ -0,0 +1,236 @@
+package com.gigigenie.domain.product.service;
+
+import com.gigigenie.domain.product.dto.ProductResponse;
+import com.gigigenie.domain.product.entity.Product;
+import com.gigigenie.domain.product.repository.ProductRepository;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제품 검색용 인메모리 n-gram 인덱스
+ * <p>
+ * 모델명과 카테고리명을 정규화(NFKC, 소문자, 영숫자/한글만)한 뒤 문자 3-gram → productId 역색인과 단어 접두어
+ * 정렬 맵을 유지한다. 3글자 이상 질의는 3-gram 교집합 후 부분 문자열 일치로 확인하고("RF85" → "RF85A7000"),
+ * 1~2글자 질의는 단어/모델명 접두어로 찾는다. 기동 시 전체를 적재하고 이후에는 제품 단위로 추가/삭제한다. 쓰기는
+ * 직렬화하고 조회는 잠금 없이 동시 자료구조만 읽으므로 DB를 거치지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final int GRAM = 3;
+
+    private final ProductRepository productRepository;
+
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> grams = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> prefixes = new ConcurrentSkipListMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        List<Product> products = productRepository.findAllWithCategory();
+        docs.clear();
+        grams.clear();
+        prefixes.clear();
+        products.forEach(this::add);
+        log.info("제품 검색 인덱스 적재: {}건, {}ms", products.size(),
+            System.currentTimeMillis() - startedAt);
+    }
+
+    // 제품 추가/갱신 (category가 로딩된 엔티티)
+    public synchronized void add(Product product) {
+        remove(product.getId());
+        Doc doc = new Doc(product.getId(), product.getModelName(),
+            product.getCategory().getId(), product.getCategory().getCategoryName(),
+            product.getModelImage() != null ? product.getModelImage()
+                : product.getCategory().getCategoryIcon(),
+            compact(product.getModelName()), compact(product.getCategory().getCategoryName()));
+        docs.put(doc.productId(), doc);
+        for (String key : keys(doc)) {
+            grams.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(doc.productId());
+        }
+        for (String token : tokens(doc)) {
+            prefixes.computeIfAbsent(token, k -> ConcurrentHashMap.newKeySet())
+                .add(doc.productId());
+        }
+    }
+
+    public synchronized void remove(Long productId) {
+        Doc doc = docs.remove(productId);
+        if (doc == null) {
+            return;
+        }
+        for (String key : keys(doc)) {
+            removePosting(grams, key, productId);
+        }
+        for (String token : tokens(doc)) {
+            removePosting(prefixes, token, productId);
+        }
+    }
+
+    /**
+     * 검색
+     *
+     * @param query      모델명/카테고리명 일부 (비어 있으면 카테고리 필터만 적용)
+     * @param categoryId 카테고리 필터 (null이면 전체)
+     * @param limit      최대 결과 수
+     */
+    public List<ProductResponse> search(String query, Integer categoryId, int limit) {
+        String q = compact(query);
+        Collection<Long> candidates;
+        if (q.isEmpty()) {
+            candidates = docs.keySet();
+        } else if (q.length() >= GRAM) {
+            candidates = byGrams(q);
+        } else {
+            candidates = byPrefix(q);
+        }
+
+        List<Scored> scored = new ArrayList<>();
+        for (Long id : candidates) {
+            Doc doc = docs.get(id);
+            if (doc == null || (categoryId != null && !categoryId.equals(doc.categoryId()))) {
+                continue;
+            }
+            int score = score(doc, q);
+            if (score > 0) {
+                scored.add(new Scored(doc, score));
+            }
+        }
+
+        return scored.stream()
+            .sorted(Comparator.comparingInt(Scored::score).reversed()
+                .thenComparingInt(s -> s.doc().modelName().length())
+                .thenComparing(s -> s.doc().productId(), Comparator.reverseOrder()))
+            .limit(limit)
+            .map(s -> ProductResponse.builder()
+                .productId(s.doc().productId())
+                .modelName(s.doc().modelName())
+                .iconUrl(s.doc().iconUrl())
+                .build())
+            .toList();
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    // 색인에 있는 제품인지 (존재 확인의 빠른 경로, 없으면 호출자가 DB로 확인)
+    public boolean contains(Long productId) {
+        return docs.containsKey(productId);
+    }
+
+    // 모든 3-gram을 가진 후보 (가장 짧은 역색인부터 교집합)
+    private Collection<Long> byGrams(String q) {
+        List<Set<Long>> postings = new ArrayList<>();
+        for (int i = 0; i + GRAM <= q.length(); i++) {
+            Set<Long> posting = grams.get(q.substring(i, i + GRAM));
+            if (posting == null) {
+                return List.of();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result.retainAll(postings.get(i));
+        }
+        return result;
+    }
+
+    private Collection<Long> byPrefix(String q) {
+        Set<Long> result = new HashSet<>();
+        prefixes.subMap(q, true, q + Character.MAX_VALUE, true).values()
+            .forEach(result::addAll);
+        return result;
+    }
+
+    // 완전 일치 > 모델명 접두어 > 모델명 부분 일치 > 카테고리명 일치
+    private static int score(Doc doc, String q) {
+        if (q.isEmpty()) {
+            return 1;
+        }
+        if (doc.compactName().equals(q)) {
+            return 100;
+        }
+        if (doc.compactName().startsWith(q)) {
+            return 50;
+        }
+        if (doc.compactName().contains(q)) {
+            return 20;
+        }
+        if (doc.compactCategory().contains(q)) {
+            return 10;
+        }
+        return 0;
+    }
+
+    private static Set<String> keys(Doc doc) {
+        Set<String> keys = new HashSet<>();
+        for (String text : List.of(doc.compactName(), doc.compactCategory())) {
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                keys.add(text.substring(i, i + GRAM));
+            }
+        }
+        return keys;
+    }
+
+    // 접두어 검색 대상: 모델명/카테고리명 전체와 공백·기호로 나뉜 각 단어
+    private static Set<String> tokens(Doc doc) {
+        Set<String> tokens = new HashSet<>();
+        tokens.add(doc.compactName());
+        tokens.add(doc.compactCategory());
+        for (String text : List.of(doc.modelName(), doc.categoryName())) {
+            for (String word : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) {
+                    tokens.add(word);
+                }
+            }
+        }
+        tokens.remove("");
+        return tokens;
+    }
+
+    private static void removePosting(Map<String, Set<Long>> index, String key, Long productId) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(productId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static String normalize(String text) {
+        return text == null ? ""
+            : Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 공백/기호 제거 ("RF-85 A" → "rf85a")
+    static String compact(String text) {
+        return normalize(text).replaceAll("[^\\p{L}\\p{N}]", "");
+    }
+
+    private record Doc(Long productId, String modelName, Integer categoryId,
+                       String categoryName, String iconUrl, String compactName,
+                       String compactCategory) {
+
+    }
+
+    private record Scored(Doc doc, int score) {
+
+    }
+}
@@ -1,16 +1,32 @@
 package com.gigigenie.domain.product.service;
 
+import com.gigigenie.domain.product.dto.IndexingJob;
+import com.gigigenie.domain.product.dto.ProductCatalog;
+import com.gigigenie.domain.product.dto.ProductPageResponse;
 import com.gigigenie.domain.product.dto.ProductResponse;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface ProductService {
 
     List<ProductResponse> list();
 
-    String processPdf(MultipartFile file, Integer categoryId, String name,
+    ProductCatalog catalog();
+
+    ProductPageResponse page(Integer categoryId, String cursor, int size);
+
+    List<ProductResponse> search(String query, Integer categoryId, int limit);
+
+    IndexingJob processPdf(MultipartFile file, Integer categoryId, String name,
         MultipartFile image, Authentication authentication);
 
-    String downloadPdf(Long productId, Authentication authentication);
+    IndexingJob getJob(String jobId, Authentication authentication);
+
+    String downloadPdf(Long productId);
+
+    ResponseEntity<StreamingResponseBody> streamPdf(Long productId, HttpHeaders requestHeaders);
 }
@@ -1,143 +1,250 @@
 package com.gigigenie.domain.product.service;
 
 import com.gigigenie.domain.member.dto.MemberDTO;
-import com.gigigenie.domain.member.repository.MemberRepository;
-import com.gigigenie.domain.notification.service.NotificationService;
+import com.gigigenie.domain.product.dto.IndexingJob;
+import com.gigigenie.domain.product.dto.ProductCatalog;
+import com.gigigenie.domain.product.dto.ProductListItem;
+import com.gigigenie.domain.product.dto.ProductPageResponse;
 import com.gigigenie.domain.product.dto.ProductResponse;
-import com.gigigenie.domain.product.dto.UploadRequest;
-import com.gigigenie.domain.product.dto.UploadResponse;
 import com.gigigenie.domain.product.entity.Category;
 import com.gigigenie.domain.product.entity.Product;
 import com.gigigenie.domain.product.repository.CategoryRepository;
 import com.gigigenie.domain.product.repository.ProductRepository;
+import com.gigigenie.exception.RagServiceUnavailableException;
+import com.gigigenie.props.ProductProps;
+import com.gigigenie.util.EntityResolver;
 import com.gigigenie.util.files.CustomFileUtil;
 import jakarta.persistence.EntityNotFoundException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class ProductServiceImpl implements ProductService {
 
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
-    private final MemberRepository memberRepository;
+    private final EntityResolver entityResolver;
     private final CustomFileUtil fileUtil;
-    private final NotificationService notificationService;
-    private final WebClient ragWebClient;
+    private final ProductIndexer productIndexer;
+    private final ProductProps productProps;
+    @Qualifier("uploadExecutor")
+    private final Executor uploadExecutor;
+    private final IndexingJobStore jobStore;
+    private final ProductSearchIndex searchIndex;
+    private final ProductCatalogCache catalogCache;
+    private final ProductDownloadUrlCache downloadUrlCache;
 
     @Override
     public List<ProductResponse> list() {
-        List<Product> products = productRepository.findAllWithCategory();
-        return products.stream().map(product -> (
-            ProductResponse.builder()
-                .productId(product.getId())
-                .modelName(product.getModelName())
-                .iconUrl(product.getModelImage() != null ? product.getModelImage()
-                    : product.getCategory().getCategoryIcon())
-                .build())).collect(Collectors.toList());
+        return catalogCache.get().getItems();
+    }
+
+    @Override
+    public ProductCatalog catalog() {
+        return catalogCache.get();
     }
 
     @Override
-    @Transactional
-    public String processPdf(MultipartFile file, Integer categoryId, String name,
+    public ProductPageResponse page(Integer categoryId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회 (count 쿼리 없음)
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ProductListItem> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = productRepository.findFirstPage(categoryId, limit);
+        } else {
+            ProductCursor after = ProductCursor.decode(cursor);
+            rows = productRepository.findPageAfter(categoryId, after.createdAt(), after.productId(),
+                limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ProductListItem> page = hasNext ? rows.subList(0, pageSize) : rows;
+        ProductListItem last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return ProductPageResponse.builder()
+            .items(page.stream()
+                .map(item -> ProductResponse.builder()
+                    .productId(item.productId())
+                    .modelName(item.modelName())
+                    .iconUrl(item.iconUrl())
+                    .build())
+                .toList())
+            .nextCursor(hasNext
+                ? new ProductCursor(last.createdAt(), last.productId()).encode() : null)
+            .hasNext(hasNext)
+            .build();
+    }
+
+    @Override
+    public List<ProductResponse> search(String query, Integer categoryId, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+        return searchIndex.search(query, categoryId, size);
+    }
+
+    @Override
+    public IndexingJob processPdf(MultipartFile file, Integer categoryId, String name,
         MultipartFile image, Authentication authentication) {
-        findMember(authentication);
+        MemberDTO memberDTO = entityResolver.currentMember(authentication);
 
         // 중복 체크
         Optional<Product> existingProduct = productRepository.findByModelName(name);
         if (existingProduct.isPresent()) {
-            return "이미 등록된 모델입니다. (모델명: " + existingProduct.get().getModelName() + ")";
+            throw new IllegalArgumentException(
+                "이미 등록된 모델입니다. (모델명: " + existingProduct.get().getModelName() + ")");
         }
 
-        // S3 업로드 (PDF)
-        String fileKey = fileUtil.uploadS3File(file);
-        String fileUrl = fileUtil.getS3Url(fileKey);
-        log.info("PDF 파일 S3 업로드 완료: key={}, url={}", fileKey, fileUrl);
+        // 같은 내용의 PDF가 인덱싱까지 끝나 있으면 S3 객체와 벡터스토어를 재사용 (업로드/임베딩 생략)
+        String contentHash = fileUtil.sha256(file);
+        Optional<Product> sameContent = productRepository
+            .findFirstByContentHashAndIndexedAtIsNotNullOrderByIdAsc(contentHash);
+        sameContent.ifPresent(source -> log.info("동일 PDF 재사용: hash={}, sourceProductId={}",
+            contentHash, source.getId()));
+
+        // 백그라운드 텍스트 추출용 로컬 복사본 (요청이 끝나면 multipart 임시 파일이 지워지므로)
+        Path pdfPath = sameContent.isEmpty() && productProps.getExtraction().isEnabled()
+            ? fileUtil.copyToTempFile(file) : null;
+
+        // PDF 업로드, 이미지 썸네일 생성/업로드, 카테고리 조회는 서로 독립적이므로 동시에 실행
+        CompletableFuture<String> pdfUpload = sameContent
+            .map(source -> CompletableFuture.completedFuture(source.getModelKey()))
+            .orElseGet(() -> CompletableFuture.supplyAsync(
+                () -> fileUtil.uploadS3FileStream(file, contentHash).key(), uploadExecutor));
+        CompletableFuture<String> imageUpload = image != null && !image.isEmpty()
+            ? CompletableFuture.supplyAsync(() -> fileUtil.uploadS3File(image), uploadExecutor)
+            : CompletableFuture.completedFuture(null);
+        CompletableFuture<Category> categoryLookup = CompletableFuture.supplyAsync(
+            () -> categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new EntityNotFoundException("Category not found")),
+            uploadExecutor);
+
+        // 모두 끝날 때까지 기다린 뒤, 하나라도 실패하면 성공한 업로드를 정리 (재사용한 PDF는 제외)
+        List<CompletableFuture<String>> ownedUploads = sameContent.isPresent()
+            ? List.of(imageUpload) : List.of(pdfUpload, imageUpload);
+        List<String> uploadedKeys;
+        try {
+            uploadedKeys = joinUploads(ownedUploads, categoryLookup);
+        } catch (RuntimeException e) {
+            fileUtil.deleteTempFile(pdfPath);
+            throw e;
+        }
 
-        String imageUrl = null;
+        String fileKey = pdfUpload.join();
+        // RAG 서버가 직접 내려받는 경우를 위한 서명 URL (버킷 공개 읽기 불필요)
+        String fileUrl = fileUtil.getPresignedUrl(fileKey,
+            productProps.getDownload().getRagFetchExpiry());
+        log.info("PDF 파일 S3 업로드 완료: key={}", fileKey);
 
-        // S3 업로드 (이미지 선택)
-        if (image != null && !image.isEmpty()) {
-            String imageKey = fileUtil.uploadS3File(image);
+        String imageKey = imageUpload.join();
+        String imageUrl = null;
+        if (imageKey != null) {
             imageUrl = fileUtil.getS3Url(imageKey);
             log.info("이미지 S3 업로드 완료: key={}, url={}", imageKey, imageUrl);
         }
+        Category category = categoryLookup.join();
+
+        try {
+            // Product 저장
+            Product product = Product.builder()
+                .category(category)
+                .modelName(name)
+                .modelImage(imageUrl)
+                .modelKey(fileKey)
+                .contentHash(contentHash)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+            // 목록/검색에는 인덱싱 완료(INDEXED) 후 노출
+            productRepository.save(product);
+
+            // FastAPI /upload(또는 /link) 호출은 백그라운드에서 실행
+            IndexingJob job = IndexingJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .productId(product.getId())
+                .modelName(name)
+                .linkedFrom(sameContent.map(Product::getId).orElse(null))
+                .state(IndexingJob.State.QUEUED)
+                .createdAt(LocalDateTime.now())
+                .memberId(memberDTO.getId())
+                .build();
+            return productIndexer.submit(job, fileUrl, pdfPath, uploadedKeys, authentication);
+        } catch (RagServiceUnavailableException e) {
+            throw e; // 대기열 초과 시 제품/파일 정리는 ProductIndexer에서 처리
+        } catch (RuntimeException e) {
+            fileUtil.deleteS3Files(uploadedKeys);
+            fileUtil.deleteTempFile(pdfPath);
+            throw e;
+        }
+    }
 
-        // 카테고리 조회 & Product 저장
-        Category category = categoryRepository.findById(categoryId)
-            .orElseThrow(() -> new EntityNotFoundException("Category not found"));
-
-        Product product = Product.builder()
-            .category(category)
-            .modelName(name)
-            .modelImage(imageUrl)
-            .modelKey(fileKey)
-            .createdAt(LocalDateTime.now())
-            .build();
-
-        productRepository.save(product);
-
-        // FastAPI /upload 호출 (파일 URL 전달)
-        UploadResponse uploadResponse = pdfUpload(product.getId(), fileUrl);
-        log.info("RAG 인덱싱 성공: pdf_id={}, store_path={}", uploadResponse.getPdfId(),
-            uploadResponse.getStorePath());
-
-        // 알림
-        notificationService.addNotification(name +
-            " 제품이 성공적으로 등록되었습니다.", "제품 등록 완료", authentication);
+    private List<String> joinUploads(List<CompletableFuture<String>> uploads,
+        CompletableFuture<Category> categoryLookup) {
+        List<CompletableFuture<?>> all = new ArrayList<>(uploads);
+        all.add(categoryLookup);
+        try {
+            CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            List<String> succeeded = new ArrayList<>();
+            for (CompletableFuture<String> upload : uploads) {
+                if (!upload.isCompletedExceptionally() && upload.join() != null) {
+                    succeeded.add(upload.join());
+                }
+            }
+            log.warn("제품 업로드 실패, 업로드된 파일 정리: {}", succeeded);
+            fileUtil.deleteS3Files(succeeded);
+            throw e.getCause() instanceof RuntimeException re ? re
+                : new RuntimeException(e.getCause());
+        }
 
-        return uploadResponse.getMessage();
+        List<String> uploadedKeys = new ArrayList<>();
+        for (CompletableFuture<String> upload : uploads) {
+            if (upload.join() != null) {
+                uploadedKeys.add(upload.join());
+            }
+        }
+        return uploadedKeys;
     }
 
     @Override
-    public String downloadPdf(Long productId, Authentication authentication) {
-        findMember(authentication);
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new EntityNotFoundException("Product not found"));
-        String key = product.getModelKey();
-        return fileUtil.getS3Url(key);
+    public IndexingJob getJob(String jobId, Authentication authentication) {
+        MemberDTO memberDTO = entityResolver.currentMember(authentication);
+        return jobStore.find(jobId)
+            .filter(job -> memberDTO.getId().equals(job.getMemberId()))
+            .orElseThrow(() -> new EntityNotFoundException("Job not found"));
     }
 
-    private UploadResponse pdfUpload(Long productId, String fileUrl) {
-        UploadRequest uploadRequest = new UploadRequest(productId, fileUrl);
-
-        return ragWebClient.post()
-            .uri("/upload")
-            .bodyValue(uploadRequest)
-            .retrieve()
-            .onStatus(HttpStatusCode::is4xxClientError, res ->
-                res.bodyToMono(String.class)
-                    .defaultIfEmpty("요청 본문 없음")
-                    .flatMap(
-                        msg -> Mono.error(new IllegalArgumentException("잘못된 요청: " + msg)))
-            )
-            .onStatus(HttpStatusCode::is5xxServerError, res ->
-                res.bodyToMono(String.class)
-                    .defaultIfEmpty("서버 오류 본문 없음")
-                    .flatMap(
-                        msg -> Mono.error(new IllegalStateException("서버 오류: " + msg)))
-            )
-            .bodyToMono(UploadResponse.class)
-            .switchIfEmpty(Mono.error(new IllegalStateException("응답이 비어있음")))
-            .block();
+    @Override
+    public String downloadPdf(Long productId) {
+        return downloadUrlCache.get(productId);
     }
 
-    private void findMember(Authentication authentication) {
-        MemberDTO memberDTO = (MemberDTO) authentication.getPrincipal();
-        memberRepository.findById(memberDTO.getId())
-            .orElseThrow(() -> new EntityNotFoundException("Member not found"));
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamPdf(Long productId,
+        HttpHeaders requestHeaders) {
+        return fileUtil.getFile(downloadUrlCache.modelKey(productId), requestHeaders);
     }
 }
\ No newline at end of file
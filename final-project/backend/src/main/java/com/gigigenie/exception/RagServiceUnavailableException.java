@@ -0,0 +1,12 @@
+package com.gigigenie.exception;
+
+public class RagServiceUnavailableException extends RuntimeException {
+
+    public RagServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public RagServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,11 +1,16 @@
 package com.gigigenie.exception.advice;
 
 import com.gigigenie.exception.CustomJWTException;
+import com.gigigenie.exception.RagServiceUnavailableException;
+import com.gigigenie.exception.ServerBusyException;
 import jakarta.persistence.EntityNotFoundException;
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -37,6 +42,20 @@ public class CustomControllerAdvice {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(getErrorMessage(msg));
     }
 
+    // 404/409: 제약 조건 위반 (FK 위반 = 참조 대상 없음, 그 외 = 중복 등 충돌)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    protected ResponseEntity<?> handleDataIntegrityViolationException(
+        DataIntegrityViolationException e) {
+        String msg = e.getMostSpecificCause().getMessage();
+        log.error("DataIntegrityViolationException: {}", msg);
+
+        if (isForeignKeyViolation(e)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(getErrorMessage("참조 대상이 존재하지 않습니다."));
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(getErrorMessage("데이터 충돌"));
+    }
+
     // 400: 잘못된 파라미터
     @ExceptionHandler(IllegalArgumentException.class)
     protected ResponseEntity<?> handleIllegalArgumentException(IllegalArgumentException e) {
@@ -102,6 +121,27 @@ public class CustomControllerAdvice {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(getErrorMessage(msg));
     }
 
+    // 503: RAG 서버 타임아웃/서킷 오픈/동시 요청 초과
+    @ExceptionHandler(RagServiceUnavailableException.class)
+    protected ResponseEntity<?> handleRagServiceUnavailableException(
+        RagServiceUnavailableException e) {
+        String msg = e.getMessage();
+        log.error("RagServiceUnavailableException: {}", msg);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(getErrorMessage(msg));
+    }
+
+    // 503: 비밀번호 해시 대기열 초과 등 일시적 과부하
+    @ExceptionHandler(ServerBusyException.class)
+    protected ResponseEntity<?> handleServerBusyException(ServerBusyException e) {
+        String msg = e.getMessage();
+        log.error("ServerBusyException: {}", msg);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(getErrorMessage(msg));
+    }
+
     // 그외 나머지 exception들은 모두 이곳에서 처리
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<?> handleException(Exception e) {
@@ -111,6 +151,16 @@ public class CustomControllerAdvice {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(getErrorMessage(msg));
     }
 
+    // PostgreSQL foreign_key_violation
+    private static boolean isForeignKeyViolation(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql && "23503".equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static Map<String, String> getErrorMessage(String msg) {
         return Map.of("errMsg", msg);
     }
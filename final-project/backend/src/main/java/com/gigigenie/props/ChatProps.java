@@ -0,0 +1,46 @@
+package com.gigigenie.props;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("app.props.chat")
+public class ChatProps {
+
+    // 예전 문자열(JSON 배열) 형식의 채팅 세션 키를 기동 시 LIST 형식으로 일괄 변환
+    private boolean migrateLegacySessions = false;
+    private History history = new History();
+    private AnswerCache answerCache = new AnswerCache();
+
+    @Data
+    public static class History {
+
+        // FastAPI로 보낼 최대 메시지 수 (최신 유저 메시지 포함)
+        private int maxMessages = 10;
+        // FastAPI로 보낼 이력의 추정 토큰 상한
+        private int maxTokens = 1500;
+        // 잘려나간 이전 대화를 발췌 메시지 하나(각 메시지를 잘라 붙인 Q/A 기록, 요약 아님)로 대체할지 여부
+        private boolean digestEnabled = false;
+        // 발췌 메시지의 추정 토큰 상한 (넘으면 오래된 줄부터 제외)
+        private int digestMaxTokens = 300;
+    }
+
+    @Data
+    public static class AnswerCache {
+
+        private boolean enabled = true;
+        // Redis 캐시 유지 시간
+        private Duration ttl = Duration.ofHours(6);
+        // 인스턴스 로컬 LRU 최대 항목 수
+        private int localMaxSize = 1000;
+        // 로컬 항목 유지 시간 (무효화 메시지를 놓친 노드가 오래된 답변을 줄 수 있는 최대 시간)
+        private Duration localTtl = Duration.ofMinutes(5);
+        // 동일 질문 동시 요청 시 한 노드만 RAG를 호출하도록 잡는 Redis 리스 시간
+        private Duration singleFlightLease = Duration.ofSeconds(30);
+        // 리스를 잡지 못한 노드가 결과를 확인하는 간격
+        private Duration singleFlightPollInterval = Duration.ofMillis(200);
+    }
+}
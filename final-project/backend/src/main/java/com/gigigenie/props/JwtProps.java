@@ -1,5 +1,7 @@
 package com.gigigenie.props;
 
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -10,6 +12,13 @@ import org.springframework.stereotype.Component;
 public class JwtProps {
 
     private String secretKey;
+    // 현재 서명 키의 kid (토큰 헤더에 기록)
+    private String keyId = "default";
+    // 키 교체 후에도 검증을 허용할 이전 키 (kid → secret)
+    private Map<String, String> verificationKeys = new HashMap<>();
     private int accessTokenExpirationPeriod;
     private int refreshTokenExpirationPeriod;
+    // 검증된 액세스 토큰의 인증 객체를 exp까지 재사용 (인스턴스 로컬)
+    private boolean tokenCacheEnabled = true;
+    private int tokenCacheMaxSize = 10_000;
 }
@@ -0,0 +1,21 @@
+package com.gigigenie.props;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("app.props.password")
+public class PasswordProps {
+
+    // BCrypt cost (4~31), 올리면 다음 로그인 시 기존 해시를 새 cost로 다시 저장
+    private int bcryptStrength = 10;
+    // 해시 계산 전용 스레드 수 (0이면 CPU 코어 수의 절반, 최소 1)
+    private int threads = 0;
+    // 대기열 길이, 가득 차면 즉시 503
+    private int queueCapacity = 32;
+    // 대기열 포함 해시 계산을 기다리는 최대 시간
+    private Duration timeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,114 @@
+package com.gigigenie.props;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("app.props.product")
+public class ProductProps {
+
+    private Indexing indexing = new Indexing();
+    private Upload upload = new Upload();
+    private Extraction extraction = new Extraction();
+    private Catalog catalog = new Catalog();
+    private Download download = new Download();
+    private Thumbnail thumbnail = new Thumbnail();
+    private Cleanup cleanup = new Cleanup();
+
+    @Data
+    public static class Indexing {
+
+        // 동시에 실행할 인덱싱 작업 수 (ragIndex 벌크헤드 이하로 유지)
+        private int corePoolSize = 2;
+        private int maxPoolSize = 4;
+        // 대기열 길이, 가득 차면 업로드를 503으로 거절
+        private int queueCapacity = 50;
+        // 작업 상태 보관 시간
+        private Duration jobTtl = Duration.ofHours(24);
+        // 종료 시 진행 중인 작업을 기다리는 시간
+        private Duration shutdownAwait = Duration.ofMinutes(1);
+    }
+
+    @Data
+    public static class Upload {
+
+        // 업로드 요청 안에서 PDF/이미지 업로드와 카테고리 조회를 동시에 실행하는 I/O 풀
+        private int corePoolSize = 4;
+        private int maxPoolSize = 16;
+        // 대기열이 가득 차면 요청 스레드에서 직접 실행 (업로드를 거절하지 않음)
+        private int queueCapacity = 32;
+    }
+
+    @Data
+    public static class Extraction {
+
+        // PDFBox로 텍스트를 추출해 청크를 보낼지 여부 (false면 RAG 서버가 S3에서 PDF를 직접 내려받아 파싱)
+        private boolean enabled = true;
+        // 추출용 fork-join 풀 병렬도 (0이면 CPU 코어 수)
+        private int parallelism = 0;
+        // 작업 하나가 맡을 최대 페이지 수
+        private int pagesPerTask = 8;
+        // 청크 크기/겹침 (문자 수, RAG 서버 RecursiveCharacterTextSplitter 설정과 동일)
+        private int chunkSize = 500;
+        private int chunkOverlap = 50;
+    }
+
+    @Data
+    public static class Catalog {
+
+        // pub/sub 메시지를 놓쳤을 때를 대비해 Redis 버전 키를 확인하는 최소 간격
+        private Duration versionCheckInterval = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Download {
+
+        // 설명서 다운로드 presigned URL 유효 시간
+        private Duration urlExpiry = Duration.ofMinutes(15);
+        // 만료까지 이 시간보다 적게 남으면 새로 서명 (받은 URL이 최소 이만큼은 유효)
+        private Duration refreshBefore = Duration.ofMinutes(2);
+        // RAG 서버가 PDF를 직접 내려받을 때 쓰는 presigned URL 유효 시간 (대기열 + 인덱싱 시간 이상)
+        private Duration ragFetchExpiry = Duration.ofHours(1);
+        // 캐시 최대 항목 수
+        private int maxEntries = 10_000;
+    }
+
+    @Data
+    public static class Thumbnail {
+
+        // 키 접두어 → 최대 변 길이(px). 첫 항목이 대표 이미지(제품 아이콘 URL), 나머지는 같은 이름에 접두어만 다름
+        private Map<String, Integer> variants = new LinkedHashMap<>(Map.of("s", 400));
+        // 이미지 디코딩/리사이즈를 동시에 실행할 스레드 수 (0이면 CPU 코어 수)
+        private int decodeThreads = 0;
+        // 디코딩 대기열 길이, 가득 차면 요청 스레드에서 직접 실행
+        private int decodeQueueCapacity = 32;
+        // 크기별 썸네일을 S3에 동시에 올리는 I/O 스레드 수
+        private int uploadThreads = 4;
+        // 재사용할 인코딩 버퍼 수와 반납 시 보관할 최대 크기 (이보다 커진 버퍼는 버림)
+        private int maxPooledBuffers = 16;
+        private int maxPooledBufferBytes = 2 * 1024 * 1024;
+    }
+
+    @Data
+    public static class Cleanup {
+
+        // S3 multi-object delete 묶음(최대 1000키)을 동시에 보낼 수
+        private int deleteConcurrency = 4;
+        // 어떤 제품도 참조하지 않는 S3 파일 정리 작업 사용 여부
+        private boolean orphanEnabled = false;
+        // 정리 주기와 첫 실행 지연
+        private Duration orphanInterval = Duration.ofHours(6);
+        private Duration orphanInitialDelay = Duration.ofMinutes(10);
+        // 이보다 최근에 올라간 파일은 업로드/인덱싱 중일 수 있으므로 건너뜀
+        private Duration orphanMinAge = Duration.ofDays(1);
+        // true면 삭제 대상만 로그로 남김
+        private boolean orphanDryRun = false;
+        // 여러 인스턴스 중 한 곳만 실행하도록 잡는 Redis 리스 시간
+        private Duration orphanLease = Duration.ofMinutes(30);
+    }
+}
@@ -0,0 +1,64 @@
+package com.gigigenie.props;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties("rag")
+public class RagProps {
+
+    private String baseUrl;
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    // HTTP/2 cleartext 사용 (RAG 서버가 h2c를 지원할 때만 켤 것, 실패 시 HTTP/1.1로 협상)
+    private boolean h2c = false;
+    // 응답 gzip 압축 수락 (Accept-Encoding: gzip)
+    private boolean compression = true;
+    private Chat chat = new Chat();
+    private Index index = new Index();
+
+    @Data
+    public static class Chat {
+
+        // /chat 전체 응답 제한 시간
+        private Duration responseTimeout = Duration.ofSeconds(60);
+        // /chat/stream 청크 사이 최대 대기 시간
+        private Duration streamIdleTimeout = Duration.ofSeconds(30);
+        private Pool pool = new Pool(100, 200);
+    }
+
+    @Data
+    public static class Index {
+
+        // /upload (PDF 인덱싱) 응답 제한 시간
+        private Duration responseTimeout = Duration.ofMinutes(10);
+        private Pool pool = new Pool(8, 16);
+    }
+
+    @Data
+    public static class Pool {
+
+        // 최대 커넥션 수
+        private int maxConnections;
+        // 커넥션 획득 대기열 최대 길이
+        private int pendingAcquireMaxCount;
+        // 커넥션 획득 대기 시간
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        // 유휴 커넥션 정리 시간 (RAG 서버 keep-alive 시간보다 짧게)
+        private Duration maxIdleTime = Duration.ofSeconds(4);
+        // 커넥션 최대 수명
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        // 백그라운드 정리 주기
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+        public Pool() {
+        }
+
+        public Pool(int maxConnections, int pendingAcquireMaxCount) {
+            this.maxConnections = maxConnections;
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+    }
+}
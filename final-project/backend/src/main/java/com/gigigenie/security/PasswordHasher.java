@@ -0,0 +1,112 @@
+package com.gigigenie.security;
+
+import com.gigigenie.exception.ServerBusyException;
+import com.gigigenie.props.PasswordProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 해시 계산 전용 실행기
+ * <p>
+ * 비밀번호 해시/검증을 passwordExecutor(고정 스레드 수, 제한된 대기열)에서 실행해 로그인이 몰려도 BCrypt가 쓰는 CPU는
+ * 스레드 수만큼으로 제한되고 채팅/카탈로그 요청은 계속 처리된다. 대기열이 가득 차거나 timeout 안에 끝나지 않으면 기다리지
+ * 않고 {@link ServerBusyException}(503)으로 실패한다. 작업별 소요 시간(member.password.hash)과 해시 계산에 쓴 CPU
+ * 시간(member.password.cpu, 초 누적)을 지표로 내보낸다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordExecutor;
+    private final PasswordProps passwordProps;
+
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter cpuSeconds;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+        @Qualifier("passwordExecutor") ThreadPoolTaskExecutor passwordExecutor,
+        PasswordProps passwordProps, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordExecutor = passwordExecutor;
+        this.passwordProps = passwordProps;
+
+        this.encodeTimer = Timer.builder("member.password.hash").tag("op", "encode")
+            .publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.matchTimer = Timer.builder("member.password.hash").tag("op", "matches")
+            .publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.cpuSeconds = Counter.builder("member.password.cpu")
+            .description("BCrypt 계산에 사용한 CPU 시간 (초)")
+            .baseUnit("seconds").register(meterRegistry);
+        this.rejected = Counter.builder("member.password.rejected").register(meterRegistry);
+        meterRegistry.gauge("member.password.queue", passwordExecutor,
+            e -> e.getThreadPoolExecutor().getQueue().size());
+        meterRegistry.gauge("member.password.active", passwordExecutor,
+            ThreadPoolTaskExecutor::getActiveCount);
+    }
+
+    public String encode(String rawPassword) {
+        return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(matchTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost가 현재 설정보다 낮은지 (해시 계산 없음)
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = passwordExecutor.submit(() -> {
+                long cpuStart = THREADS.getCurrentThreadCpuTime();
+                try {
+                    return timer.record(task);
+                } finally {
+                    cpuSeconds.increment(
+                        (THREADS.getCurrentThreadCpuTime() - cpuStart) / 1_000_000_000.0);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new ServerBusyException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            return future.get(passwordProps.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServerBusyException("로그인 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 확인 중 인터럽트");
+        }
+    }
+}
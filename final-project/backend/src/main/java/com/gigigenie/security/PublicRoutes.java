@@ -0,0 +1,88 @@
+package com.gigigenie.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * 인증 없이 접근 가능한 경로
+ * <p>
+ * SecurityConfig의 permitAll()과 JWTCheckFilter의 필터 제외 대상이 이 목록 하나를 같이 쓴다. 패턴은 정확한 경로 또는
+ * "/prefix/**"(prefix 자체와 하위 경로 전체)만 허용하며, 시작 시 정확한 경로 집합과 접두어 배열로 컴파일해 요청마다
+ * 해시 조회 한 번과 짧은 접두어 비교만 한다.
+ */
+public final class PublicRoutes implements RequestMatcher {
+
+    public static final List<String> PATTERNS = List.of(
+        // 회원
+        "/api/member/login",
+        "/api/member/join",
+        "/api/member/check-email",
+        "/api/member/me",
+        "/api/member/refresh",
+        // 관리자 회원
+        "/api/admin/member/login/**",
+        "/api/admin/member/join/**",
+        "/api/admin/member/refresh/**",
+        "/api/admin/member/logout/**",
+        // OAuth2
+        "/api/oauth2/**",
+        "/oauth2/**",
+        "/login/oauth2/code/**",
+        // 제품 목록/검색
+        "/api/product/search",
+        "/api/product/list",
+        "/api/product/list/page",
+        // Swagger 및 기타 리소스
+        "/favicon.ico",
+        "/v2/api-docs",
+        "/swagger-resources/**",
+        "/swagger-ui/**",
+        "/webjars/**",
+        "/v3/api-docs/**",
+        "/h2-console/**"
+    );
+
+    public static final PublicRoutes MATCHER = new PublicRoutes(PATTERNS);
+
+    private final Set<String> exact = new HashSet<>();
+    private final String[] prefixes;
+
+    PublicRoutes(List<String> patterns) {
+        List<String> prefixList = new ArrayList<>();
+        for (String pattern : patterns) {
+            if (pattern.endsWith("/**")) {
+                String base = pattern.substring(0, pattern.length() - 3);
+                exact.add(base);
+                prefixList.add(base + "/");
+            } else if (pattern.contains("*")) {
+                throw new IllegalArgumentException("지원하지 않는 패턴: " + pattern);
+            } else {
+                exact.add(pattern);
+            }
+        }
+        this.prefixes = prefixList.toArray(String[]::new);
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return matches(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+    }
+
+    public boolean matches(String path) {
+        if (exact.contains(path)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
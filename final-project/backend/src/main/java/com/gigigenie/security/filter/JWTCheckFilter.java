@@ -2,7 +2,10 @@ package com.gigigenie.security.filter;
 
 import com.gigigenie.domain.member.dto.MemberDTO;
 import com.gigigenie.domain.member.enums.MemberRole;
+import com.gigigenie.security.PublicRoutes;
 import com.gigigenie.util.JWTUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -10,71 +13,59 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * 액세스 토큰 쿠키 검증 필터
+ * <p>
+ * 공개 경로({@link PublicRoutes})와 preflight 요청은 건너뛴다. 요청마다 INFO 로그를 남기지 않고 결과별 카운터
+ * (jwt.filter.requests)만 올리며, DEBUG가 켜져 있을 때도 SAMPLE_RATE건 중 1건만 기록한다.
+ */
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class JWTCheckFilter extends OncePerRequestFilter {
 
+    private static final int SAMPLE_RATE = 100;
+
     private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache tokenCache;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Counter skipped;
+    private final Counter anonymous;
+    private final Counter authenticated;
+    private final Counter rejected;
+
+    public JWTCheckFilter(JWTUtil jwtUtil, VerifiedTokenCache tokenCache,
+        MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.tokenCache = tokenCache;
+        this.skipped = counter(meterRegistry, "skipped");
+        this.anonymous = counter(meterRegistry, "anonymous");
+        this.authenticated = counter(meterRegistry, "authenticated");
+        this.rejected = counter(meterRegistry, "rejected");
+    }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String path = request.getRequestURI();
-        log.info("check uri: " + path);
-
-        // Pre-flight 요청은 필터를 타지 않도록 설정
-        if (request.getMethod().equals("OPTIONS")) {
-            return true;
-        }
-
-        // SecurityConfig와 일치하는 경로 패턴 - permitAll() 설정된 경로들
-        if (path.equals("/api/member/login") ||
-            path.equals("/api/member/join") ||
-            path.equals("/api/member/check-email") ||
-            path.equals("/api/member/me") ||
-            path.equals("/api/member/refresh") ||
-            path.equals("/api/oauth2/") ||
-            path.equals("/oauth2/") ||
-            path.equals("/login/oauth2/code/") ||
-            path.equals("/api/product/search") ||
-            path.equals("/api/product/list")) {
-            return true;
-        }
-
-        // 관리자 경로
-        if (path.startsWith("/api/admin/member/login") ||
-            path.startsWith("/api/admin/member/join") ||
-            path.startsWith("/api/admin/member/refresh") ||
-            path.startsWith("/api/admin/member/logout")) {
-            return true;
-        }
-
-        // Swagger 및 기타 리소스 관련 경로 제외
-        if (path.startsWith("/swagger-ui/") ||
-            path.startsWith("/v3/api-docs") ||
-            path.startsWith("/h2-console") ||
-            path.startsWith("/favicon.ico")) {
+        // Pre-flight 요청과 공개 경로는 필터를 타지 않도록 설정 (SecurityConfig permitAll과 같은 목록)
+        if ("OPTIONS".equals(request.getMethod()) || PublicRoutes.MATCHER.matches(request)) {
+            skipped.increment();
             return true;
         }
-
         return false;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
         FilterChain filterChain) throws ServletException, IOException {
-        log.info("------------------JWTCheckFilter 시작------------------");
-
-        Cookie[] cookies = request.getCookies();
         String accessToken = null;
-
+        Cookie[] cookies = request.getCookies();
         if (cookies != null) {
             for (Cookie cookie : cookies) {
                 if ("accessToken".equals(cookie.getName())) {
@@ -85,38 +76,61 @@ public class JWTCheckFilter extends OncePerRequestFilter {
         }
 
         if (accessToken == null) {
-            log.info("AccessToken 없음, 필터 통과");
+            anonymous.increment();
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
-            Map<String, Object> claims = jwtUtil.validateToken(accessToken);
+            UsernamePasswordAuthenticationToken authenticationToken =
+                tokenCache.get(accessToken);
+            if (authenticationToken == null) {
+                Map<String, Object> claims = jwtUtil.validateToken(accessToken);
 
-            Integer id = (Integer) claims.get("id");
-            String email = (String) claims.get("email");
-            String name = (String) claims.get("name");
-            String role = (String) claims.get("role");
-            log.info("추출된 role: {}", role);
+                Integer id = (Integer) claims.get("id");
+                String email = (String) claims.get("email");
+                String name = (String) claims.get("name");
+                String role = (String) claims.get("role");
 
-            MemberRole memberRole = MemberRole.valueOf(role);
-            MemberDTO memberDTO = new MemberDTO(id, email, "", name, memberRole);
+                MemberRole memberRole = MemberRole.valueOf(role);
+                MemberDTO memberDTO = new MemberDTO(id, email, "", name, memberRole);
 
-            UsernamePasswordAuthenticationToken authenticationToken =
-                new UsernamePasswordAuthenticationToken(memberDTO, null,
+                authenticationToken = new UsernamePasswordAuthenticationToken(memberDTO, null,
                     memberDTO.getAuthorities());
-            log.info("인증 토큰의 권한: {}", authenticationToken.getAuthorities());
 
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            log.info("SecurityContext에 인증 정보 설정 완료");
+                // exp(초)까지 캐시
+                tokenCache.put(accessToken, authenticationToken,
+                    ((Number) claims.get("exp")).longValue() * 1000);
+            }
 
-            filterChain.doFilter(request, response);
-            log.info("------------------JWTCheckFilter 종료------------------");
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+            authenticated.increment();
+            if (sampled()) {
+                log.debug("JWT 인증: uri={}, authorities={}", request.getRequestURI(),
+                    authenticationToken.getAuthorities());
+            }
         } catch (Exception e) {
+            rejected.increment();
+            if (sampled()) {
+                log.debug("JWT 인증 실패: uri={}, reason={}", request.getRequestURI(),
+                    e.getMessage());
+            }
             response.setContentType("application/json;charset=UTF-8");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().println("{\"error\":\"ERROR_ACCESS_TOKEN\"}");
+            return;
         }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean sampled() {
+        return log.isDebugEnabled() && sequence.getAndIncrement() % SAMPLE_RATE == 0;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("jwt.filter.requests").tag("result", result)
+            .register(meterRegistry);
     }
 
 }
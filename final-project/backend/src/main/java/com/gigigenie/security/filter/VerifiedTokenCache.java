@@ -0,0 +1,96 @@
+package com.gigigenie.security.filter;
+
+import com.gigigenie.props.JwtProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 액세스 토큰 캐시
+ * <p>
+ * 토큰의 SHA-256 다이제스트를 키로, 서명 검증과 클레임 파싱을 마친 인증 객체를 토큰의 exp까지 보관한다. 같은 토큰으로
+ * 들어오는 이후 요청은 HMAC 검증과 MemberDTO 생성을 건너뛴다. 최대 크기를 넘으면 가장 오래 쓰이지 않은 항목부터
+ * 밀어내고(LRU), 만료 여부는 조회 시 exp로 확인한다. 로그아웃 시 {@link #invalidate(String)}로 해당 토큰을 지운다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtProps jwtProps;
+    private final Map<String, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(JwtProps jwtProps, MeterRegistry meterRegistry) {
+        this.jwtProps = jwtProps;
+        int maxSize = jwtProps.getTokenCacheMaxSize();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+        this.hits = Counter.builder("jwt.token.cache.requests")
+            .tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("jwt.token.cache.requests")
+            .tag("result", "miss").register(meterRegistry);
+        meterRegistry.gaugeMapSize("jwt.token.cache.size", List.of(), entries);
+    }
+
+    public UsernamePasswordAuthenticationToken get(String token) {
+        if (!jwtProps.isTokenCacheEnabled()) {
+            return null;
+        }
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt() > System.currentTimeMillis()) {
+                hits.increment();
+                return entry.authentication();
+            }
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * @param expiresAt 토큰 exp (epoch ms)
+     */
+    public void put(String token, UsernamePasswordAuthenticationToken authentication,
+        long expiresAt) {
+        if (!jwtProps.isTokenCacheEnabled() || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        entries.put(digest(token), new Entry(authentication, expiresAt));
+    }
+
+    public void invalidate(String token) {
+        if (token != null) {
+            entries.remove(digest(token));
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder()
+                .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(UsernamePasswordAuthenticationToken authentication, long expiresAt) {
+
+    }
+}
@@ -0,0 +1,64 @@
+package com.gigigenie.util;
+
+import com.gigigenie.domain.member.dto.MemberDTO;
+import com.gigigenie.domain.member.entity.Member;
+import com.gigigenie.domain.member.repository.MemberRepository;
+import com.gigigenie.domain.product.entity.Product;
+import com.gigigenie.domain.product.repository.ProductRepository;
+import com.gigigenie.domain.product.service.ProductSearchIndex;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 정보/ID → 회원·제품 엔티티 참조
+ * <p>
+ * 회원 정보는 JWTCheckFilter가 검증된 클레임으로 만든 MemberDTO를 그대로 쓰고, 연관관계에 넣을 엔티티는
+ * getReferenceById로 SELECT 없이 프록시만 얻는다. 같은 요청(영속성 컨텍스트) 안에서는 같은 프록시가 재사용된다. 존재
+ * 여부는 저장 시 FK 제약으로 확인하며(위반은 CustomControllerAdvice에서 404로 변환), 저장 없이 ID만 쓰는 채팅 경로는
+ * 메모리 검색 색인으로 먼저 확인하고 색인에 없을 때만 DB를 조회한다(pub/sub 메시지를 놓친 노드도 스스로 복구).
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityResolver {
+
+    private final MemberRepository memberRepository;
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex searchIndex;
+
+    // 검증된 토큰의 회원 정보 (DB 조회 없음)
+    public MemberDTO currentMember(Authentication authentication) {
+        return (MemberDTO) authentication.getPrincipal();
+    }
+
+    public Integer currentMemberId(Authentication authentication) {
+        return currentMember(authentication).getId();
+    }
+
+    // 연관관계용 회원 참조 (식별자 외 필드 접근 시 지연 로딩)
+    public Member memberRef(Authentication authentication) {
+        return memberRepository.getReferenceById(currentMemberId(authentication));
+    }
+
+    // 연관관계용 제품 참조
+    public Product productRef(Long productId) {
+        return productRepository.getReferenceById(productId);
+    }
+
+    // 저장 없이 ID만 쓰는 경로의 존재 확인 (색인 적중 시 DB 조회 없음, 누락 시 DB 확인 후 색인에 추가)
+    // 인덱싱이 끝나지 않은 제품은 벡터스토어가 없으므로 없는 제품으로 취급
+    public Long requireProduct(Long productId) {
+        if (productId == null) {
+            throw new EntityNotFoundException("Product not found");
+        }
+        if (searchIndex.contains(productId)) {
+            return productId;
+        }
+        Product product = productRepository.findByIdWithCategory(productId)
+            .filter(p -> p.getIndexedAt() != null)
+            .orElseThrow(() -> new EntityNotFoundException("Product not found"));
+        searchIndex.add(product);
+        return productId;
+    }
+}
@@ -4,15 +4,26 @@ import com.gigigenie.exception.CustomJWTException;
 import com.gigigenie.props.JwtProps;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * JWT 발급/검증
+ * <p>
+ * 서명 키와 파서는 시작 시 한 번만 만들어 재사용한다(파서는 불변이라 스레드 간 공유 가능). 새 토큰은 현재 키(keyId)로
+ * 서명하고 헤더에 kid를 넣는다. 검증은 kid로 현재 키 또는 verificationKeys의 이전 키를 찾으므로, 키를 교체해도 이전
+ * 키로 발급된 토큰은 만료될 때까지 유효하다. kid가 없는 토큰(교체 기능 이전 발급분)은 현재 키로 검증한다.
+ */
 @Log4j2
 @Component
 @RequiredArgsConstructor
@@ -20,23 +31,40 @@ public class JWTUtil {
 
     private final JwtProps jwtProps;
 
+    private SecretKey signingKey;
+    private Map<String, SecretKey> verificationKeys;
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = toKey(jwtProps.getSecretKey());
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        jwtProps.getVerificationKeys().forEach((kid, secret) -> keys.put(kid, toKey(secret)));
+        keys.put(jwtProps.getKeyId(), signingKey);
+        verificationKeys = Map.copyOf(keys);
+
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+        log.info("JWT 키 초기화: kid={}, 검증 키 {}개", jwtProps.getKeyId(), verificationKeys.size());
+    }
+
 
     // 토큰 생성
     public String generateToken(Map<String, Object> valueMap, int min) {
-        SecretKey key = null;
-        try {
-            key = Keys.hmacShaKeyFor(jwtProps.getSecretKey().getBytes("UTF-8"));
-        } catch (Exception e) {
-            log.error(e);
-            throw new RuntimeException(e.getMessage());
-        }
-
+        ZonedDateTime now = ZonedDateTime.now();
         return Jwts.builder()
-                .setHeader(Map.of("typ", "JWT"))
+                .setHeader(Map.of("typ", "JWT", "kid", jwtProps.getKeyId()))
                 .setClaims(valueMap)
-                .setIssuedAt(Date.from(ZonedDateTime.now().toInstant()))
-                .setExpiration(Date.from(ZonedDateTime.now().plusMinutes(min).toInstant()))
-                .signWith(key)
+                .setIssuedAt(Date.from(now.toInstant()))
+                .setExpiration(Date.from(now.plusMinutes(min).toInstant()))
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -44,11 +72,7 @@ public class JWTUtil {
 
         Map<String, Object> claim = null;
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtProps.getSecretKey().getBytes("UTF-8"));
-            claim = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token) // 파싱 및 검증, 실패시 에러
+            claim = parser.parseClaimsJws(token) // 파싱 및 검증, 실패시 에러
                     .getBody();
 
         } catch (MalformedJwtException malformedJwtException) {
@@ -65,5 +89,19 @@ public class JWTUtil {
         return claim;
     }
 
-}
+    private Key resolveKey(String kid) {
+        if (kid == null) {
+            return signingKey;
+        }
+        SecretKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown kid: " + kid);
+        }
+        return key;
+    }
+
+    private static SecretKey toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
 
+}
@@ -1,41 +1,112 @@
 package com.gigigenie.util.files;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.gigigenie.util.files.ImageBufferPool.ImageBuffer;
+import com.gigigenie.util.files.ThumbnailGenerator.Thumbnail;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
-import java.net.URLConnection;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AwsS3Util {
 
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+    // multi-object delete 한 번에 보낼 수 있는 최대 키 수
+    private static final int MAX_DELETE_BATCH = 1000;
+    private static final Pattern BYTE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final CacheControl FILE_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
     @Value("${app.props.aws.s3.bucket-name}")
     private String bucketName;
 
     @Value("${app.props.aws.s3.region}")
     private String region;
 
+    // 멀티파트 파트 크기 (S3 최소 5MB), 이보다 작은 파일은 단일 PUT
+    @Value("${app.props.aws.s3.part-size-mb:5}")
+    private int partSizeMb;
+
+    // 인스턴스 전체에서 동시에 쓸 수 있는 파트 버퍼 수 (최대 힙 = part-size-mb * max-part-buffers)
+    @Value("${app.props.aws.s3.max-part-buffers:8}")
+    private int maxPartBuffers;
+
+    // 버퍼가 모두 사용 중일 때 기다리는 최대 시간
+    @Value("${app.props.aws.s3.buffer-acquire-timeout-ms:30000}")
+    private long bufferAcquireTimeoutMs;
+
     private final AmazonS3 s3Client;
+    private final ThumbnailGenerator thumbnailGenerator;
+    @Qualifier("imageExecutor")
+    private final Executor imageExecutor;
+    @Qualifier("thumbnailUploadExecutor")
+    private final Executor thumbnailUploadExecutor;
+    @Qualifier("s3DeleteExecutor")
+    private final Executor s3DeleteExecutor;
+
+    private PartBufferPool bufferPool;
+
+    @PostConstruct
+    public void init() {
+        bufferPool = new PartBufferPool(Math.max(partSizeMb, 5) * 1024 * 1024, maxPartBuffers);
+    }
 
 
     /**
@@ -67,114 +138,420 @@ public class AwsS3Util {
 
         // PDF 또는 webp 파일인 경우 썸네일 생성 없이 직접 업로드
         if (extension.equals("pdf") || extension.equals("webp")) {
-            String fileName = UUID.randomUUID().toString() + "-" + originalFilename;
-            try {
-                // 원본 파일의 복사본 생성
-                byte[] fileBytes = file.getBytes();
-                Path tempPath = Files.createTempFile("temp-", fileName);
-                Files.write(tempPath, fileBytes);
-
-                ObjectMetadata metadata = new ObjectMetadata();
-                if (extension.equals("pdf")) {
-                    metadata.setContentType("application/pdf");
-                } else if (extension.equals("webp")) {
-                    metadata.setContentType("image/webp");
+            return uploadStream(file, null).key();
+        }
+
+        // 이미지 파일은 한 번 디코딩해 크기별 썸네일을 메모리에서 만든 뒤 병렬 업로드
+        String baseName = UUID.randomUUID().toString() + "-" + originalFilename;
+        List<Thumbnail> thumbnails = renderThumbnails(file, baseName, extension);
+        String contentType = "image/" + (extension.equals("jpg") ? "jpeg" : extension);
+        Queue<String> uploaded = new ConcurrentLinkedQueue<>();
+        try {
+            CompletableFuture.allOf(thumbnails.stream()
+                    .map(thumbnail -> CompletableFuture.runAsync(() -> {
+                        putThumbnail(thumbnail, contentType);
+                        uploaded.add(thumbnail.key());
+                    }, thumbnailUploadExecutor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (CompletionException e) {
+            // allOf는 모든 업로드가 끝난 뒤 완료되므로 성공한 키만 정리하면 됨
+            log.error("썸네일 업로드 실패, 업로드된 {}건 삭제: {}", uploaded.size(), e.getCause().getMessage());
+            uploaded.forEach(this::deleteQuietly);
+            throw unwrap(e);
+        } finally {
+            thumbnailGenerator.release(thumbnails);
+        }
+        return thumbnails.get(0).key();
+    }
+
+    // 디코딩/리사이즈는 CPU 풀에서 실행 (동시에 힙에 올라가는 원본 이미지 수 제한)
+    private List<Thumbnail> renderThumbnails(MultipartFile file, String baseName, String extension) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try (InputStream in = file.getInputStream()) {
+                    return thumbnailGenerator.render(in, baseName, extension);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-                metadata.setContentLength(tempPath.toFile().length());
+            }, imageExecutor).join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
 
-                // S3에 업로드
-                s3Client.putObject(new PutObjectRequest(bucketName, fileName, tempPath.toFile())
-                        .withMetadata(metadata));
+    private void putThumbnail(Thumbnail thumbnail, String contentType) {
+        ImageBuffer buffer = thumbnail.buffer();
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(buffer.size());
 
-                // 임시 파일 정리
-                Files.deleteIfExists(tempPath);
+        PutObjectRequest request = new PutObjectRequest(bucketName, thumbnail.key(),
+                buffer.inputStream(), metadata);
+        request.getRequestClientOptions().setReadLimit(buffer.size() + 1);
+        s3Client.putObject(request);
+    }
 
-                return fileName;
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to upload file: " + e.getMessage());
-            }
+    private void deleteQuietly(String key) {
+        try {
+            s3Client.deleteObject(bucketName, key);
+        } catch (RuntimeException e) {
+            log.error("S3 파일 삭제 실패: key={}, {}", key, e.getMessage());
         }
+    }
 
-        // 이미지 파일은 썸네일 생성 후 업로드
-        String thumbnailFileName = "s_" + UUID.randomUUID().toString() + "-" + originalFilename;
-        Path thumbnailPath = null;
-        try {
-            thumbnailPath = Paths.get(thumbnailFileName);
-            Thumbnails.of(file.getInputStream())
-                    .size(400, 400)
-                    .outputFormat(extension)
-                    .toFile(thumbnailPath.toFile());
-
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType("image/" + extension);
-            metadata.setContentLength(thumbnailPath.toFile().length());
-
-            s3Client.putObject(new PutObjectRequest(bucketName, thumbnailPath.toFile().getName(), thumbnailPath.toFile())
-                    .withMetadata(metadata));
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof UncheckedIOException io) {
+            return new RuntimeException(io.getCause().getMessage());
+        }
+        return cause instanceof RuntimeException re ? re : new RuntimeException(cause);
+    }
+
+
+    /**
+     * S3에 파일을 스트리밍 업로드 (썸네일 없이 원본 그대로)
+     * <p>
+     * MultipartFile의 InputStream을 풀에서 빌린 파트 버퍼 하나로 읽어 S3 멀티파트 파트로 바로 올린다. 파일 전체를
+     * 힙이나 임시 파일로 복사하지 않으며, 해시를 미리 받지 않았으면 읽는 동안 SHA-256을 계산하고 파트마다 Content-MD5로 전송 무결성을 검증한다.
+     * 파트 하나에 다 들어가는 작은 파일은 단일 PUT으로 올린다.
+     *
+     * @param file        파일
+     * @param knownSha256 이미 계산한 SHA-256 (null이면 읽는 동안 계산)
+     * @return 업로드된 파일 키, 크기, SHA-256
+     */
+    public S3UploadResult uploadStream(MultipartFile file, String knownSha256) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("File is empty");
+        }
+
+        String originalFilename = file.getOriginalFilename();
+        String fileName = UUID.randomUUID().toString() + "-" + originalFilename;
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType(originalFilename, file.getContentType()));
+
+        MessageDigest sha256 = knownSha256 == null ? digest("SHA-256") : null;
+        byte[] buffer = null;
+        try (InputStream in = sha256 == null ? file.getInputStream()
+                : new DigestInputStream(file.getInputStream(), sha256)) {
+            buffer = bufferPool.acquire(bufferAcquireTimeoutMs);
+            int read = readFully(in, buffer);
+
+            long size;
+            String hash;
+            if (read < buffer.length) {
+                // 스트림을 끝까지 읽었으므로 해시를 먼저 확정
+                hash = sha256 == null ? knownSha256 : HexFormat.of().formatHex(sha256.digest());
+                size = putSingle(fileName, metadata, buffer, read, hash);
+            } else {
+                size = putMultipart(fileName, metadata, in, buffer, read);
+                hash = sha256 == null ? knownSha256 : HexFormat.of().formatHex(sha256.digest());
+            }
+            log.info("S3 스트리밍 업로드 완료: key={}, size={}, sha256={}", fileName, size, hash);
+            return new S3UploadResult(fileName, size, hash);
         } catch (IOException e) {
-            throw new RuntimeException(e.getMessage());
+            throw new RuntimeException("Failed to upload file: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드 버퍼 대기 중 인터럽트");
         } finally {
-            if (thumbnailPath != null && Files.exists(thumbnailPath)) {
-                log.info("local thumbnailPath exist! {}", thumbnailPath);
-                try {
-                    Files.delete(thumbnailPath);
-                } catch (IOException e) {
-                    log.error("Failed to delete local thumbnail file: {}", e.getMessage());
-                }
+            if (buffer != null) {
+                bufferPool.release(buffer);
+            }
+        }
+    }
+
+    // 파트 하나 이하 크기 = 단일 PUT (해시를 미리 알 수 있으므로 메타데이터에도 기록)
+    private long putSingle(String fileName, ObjectMetadata metadata, byte[] buffer, int length,
+            String sha256) {
+        metadata.setContentLength(length);
+        metadata.setContentMD5(md5Base64(buffer, length));
+        metadata.addUserMetadata("sha256", sha256);
+
+        PutObjectRequest request = new PutObjectRequest(bucketName, fileName,
+                new ByteArrayInputStream(buffer, 0, length), metadata);
+        // 재시도 시 버퍼 전체를 다시 읽을 수 있도록
+        request.getRequestClientOptions().setReadLimit(length + 1);
+        s3Client.putObject(request);
+        return length;
+    }
+
+    private long putMultipart(String fileName, ObjectMetadata metadata, InputStream in,
+            byte[] buffer, int firstRead) throws IOException {
+        String uploadId = s3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, fileName, metadata)).getUploadId();
+
+        List<PartETag> partETags = new ArrayList<>();
+        long size = 0;
+        try {
+            int partNumber = 1;
+            int read = firstRead;
+            while (read > 0) {
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(fileName)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withPartSize(read)
+                        .withMD5Digest(md5Base64(buffer, read))
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, read));
+                request.getRequestClientOptions().setReadLimit(read + 1);
+                partETags.add(s3Client.uploadPart(request).getPartETag());
+                size += read;
+                read = readFully(in, buffer);
+            }
+            s3Client.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, fileName, uploadId, partETags));
+            return size;
+        } catch (IOException | RuntimeException e) {
+            log.error("S3 멀티파트 업로드 실패, 중단: key={}, parts={}", fileName, partETags.size());
+            try {
+                s3Client.abortMultipartUpload(
+                        new AbortMultipartUploadRequest(bucketName, fileName, uploadId));
+            } catch (RuntimeException abortError) {
+                log.error("S3 멀티파트 업로드 중단 실패: {}", abortError.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    // 버퍼가 가득 차거나 스트림이 끝날 때까지 읽기
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int n = in.read(buffer, total, buffer.length - total);
+            if (n < 0) {
+                break;
             }
+            total += n;
+        }
+        return total;
+    }
+
+    private static String md5Base64(byte[] buffer, int length) {
+        MessageDigest md5 = digest("MD5");
+        md5.update(buffer, 0, length);
+        return Base64.getEncoder().encodeToString(md5.digest());
+    }
+
+    private static MessageDigest digest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String contentType(String originalFilename, String fallback) {
+        String lower = originalFilename == null ? "" : originalFilename.toLowerCase();
+        if (lower.endsWith(".pdf")) {
+            return "application/pdf";
+        }
+        if (lower.endsWith(".webp")) {
+            return "image/webp";
         }
-        return thumbnailFileName;
+        return fallback != null ? fallback : "application/octet-stream";
     }
 
 
     /**
-     * S3에 있는 파일 가져오기
+     * S3 객체 스트리밍 프록시
+     * <p>
+     * Range(단일 구간)와 If-None-Match를 GetObject 요청으로 그대로 넘겨 필요한 바이트만 S3에서 읽고, 고정 크기 버퍼로
+     * 응답에 복사한다. 키에 UUID가 들어가 내용이 바뀌지 않으므로 ETag와 함께 장기 캐시 헤더를 붙인다. 여러 구간 요청은
+     * 전체(200)로 응답한다.
      *
-     * @param fileName 파일 이름
-     * @return 파일 리소스
-     * @throws IOException 파일이 없을 경우 예외 발생
+     * @param fileName       파일 이름
+     * @param requestHeaders 클라이언트 요청 헤더
+     * @return 200/206/304/404/416 응답
      */
-    public ResponseEntity<Resource> getFile(String fileName) throws IOException {
-        // fileName = dbac534f-f3b6-4b33-9b83-e308e3c2c29d_e52319408af1ee349da788ec09ca6d92ff7bd70a3b99fa287c599037efee.jpg
-        // https://mall-s3.s3.ap-northeast-2.amazonaws.com/dbac534f-f3b6-4b33-9b83-e308e3c2c29d_e52319408af1ee349da788ec09ca6d92ff7bd70a3b99fa287c599037efee.jpg
-        // 로 전환!
-        String urlStr = s3Client.getUrl(bucketName, fileName).toString();
-        Resource resource;
+    public ResponseEntity<StreamingResponseBody> getFile(String fileName, HttpHeaders requestHeaders) {
+        GetObjectRequest request = new GetObjectRequest(bucketName, fileName);
+        String range = requestHeaders.getFirst(HttpHeaders.RANGE);
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch().stream()
+                .map(etag -> etag.replace("W/", "").replace("\"", ""))
+                .toList();
+        if (!ifNoneMatch.isEmpty()) {
+            request.setNonmatchingETagConstraints(ifNoneMatch);
+        }
+
+        S3Object object;
+        boolean partial;
+        try {
+            // 접미 구간은 길이 조회(HEAD)가 필요하므로 GetObject와 같은 404/416 처리 안에서 적용
+            partial = range != null && applyRange(request, fileName, range);
+            object = s3Client.getObject(request);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+                return rangeNotSatisfiable(fileName);
+            }
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return ResponseEntity.notFound().build();
+            }
+            throw e;
+        }
+        if (object == null) {
+            // If-None-Match 일치 = S3가 304로 응답 (SDK가 헤더를 주지 않으므로 실제 ETag는 HEAD로 확인)
+            ObjectMetadata current;
+            try {
+                current = s3Client.getObjectMetadata(bucketName, fileName);
+            } catch (AmazonS3Exception e) {
+                if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                    return ResponseEntity.notFound().build();
+                }
+                throw e;
+            }
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag("\"" + current.getETag() + "\"")
+                    .cacheControl(FILE_CACHE_CONTROL)
+                    .build();
+        }
+
+        ObjectMetadata metadata = object.getObjectMetadata();
         HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(
+                contentType(fileName, metadata.getContentType())));
+        headers.setContentLength(metadata.getContentLength());
+        headers.setETag("\"" + metadata.getETag() + "\"");
+        headers.setCacheControl(FILE_CACHE_CONTROL);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        HttpStatus status = HttpStatus.OK;
+        long[] contentRange = metadata.getContentRange();
+        if (partial && contentRange != null) {
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(
+                    contentRange[0], contentRange[1], metadata.getInstanceLength()));
+        }
+        return ResponseEntity.status(status).headers(headers).body(out -> transfer(object, out));
+    }
+
+    // "bytes=a-b" / "bytes=a-" / "bytes=-n" 단일 구간만 S3로 전달
+    private boolean applyRange(GetObjectRequest request, String fileName, String range) {
+        Matcher matcher = BYTE_RANGE.matcher(range.trim());
+        if (!matcher.matches()) {
+            return false;
+        }
+        String start = matcher.group(1);
+        String end = matcher.group(2);
+        if (start.isEmpty() && end.isEmpty()) {
+            return false;
+        }
+        if (start.isEmpty()) {
+            // 끝에서 n바이트: S3 SDK가 접미 구간을 지원하지 않아 길이를 먼저 조회
+            long suffix = Long.parseLong(end);
+            long length = objectLength(fileName);
+            if (suffix == 0 || length == 0) {
+                // bytes=-0, 빈 객체의 접미 구간은 S3와 같은 416으로 처리
+                AmazonS3Exception e = new AmazonS3Exception("Requested Range Not Satisfiable");
+                e.setStatusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                throw e;
+            }
+            request.setRange(Math.max(0, length - suffix), length - 1);
+        } else if (end.isEmpty()) {
+            request.setRange(Long.parseLong(start));
+        } else {
+            request.setRange(Long.parseLong(start), Long.parseLong(end));
+        }
+        return true;
+    }
+
+    private ResponseEntity<StreamingResponseBody> rangeNotSatisfiable(String fileName) {
         try {
-            URL url = new URL(urlStr);
-            URLConnection urlConnection = url.openConnection();
-            InputStream inputStream = urlConnection.getInputStream();
-            resource = new InputStreamResource(inputStream);
-
-            // MIME 타입 설정
-            String mimeType = urlConnection.getContentType();
-            if (mimeType == null) {
-                Path path = Paths.get(fileName);
-                mimeType = Files.probeContentType(path);
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + objectLength(fileName))
+                    .build();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return ResponseEntity.notFound().build();
             }
-            headers.add("Content-Type", mimeType);
-        } catch (IOException e) {
-            return ResponseEntity.internalServerError().build();
+            throw e;
         }
-        return ResponseEntity.ok().headers(headers).body(resource);
+    }
+
+    private long objectLength(String fileName) {
+        return s3Client.getObjectMetadata(bucketName, fileName).getContentLength();
+    }
 
+    // 고정 버퍼로 복사, 클라이언트가 끊으면 남은 본문을 읽지 않고 S3 연결을 폐기
+    private static void transfer(S3Object object, OutputStream out) throws IOException {
+        S3ObjectInputStream in = object.getObjectContent();
+        boolean completed = false;
+        try {
+            byte[] buffer = new byte[TRANSFER_BUFFER_SIZE];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                out.write(buffer, 0, n);
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                in.abort();
+            }
+            object.close();
+        }
     }
 
 
     /**
-     * S3에 파일 삭제
+     * S3에 파일 일괄 삭제
+     * <p>
+     * 썸네일 대표 키는 모든 크기의 키로 펼친 뒤 최대 1000개씩 multi-object delete로 지운다. 여러 묶음은
+     * s3DeleteExecutor에서 동시에 실행되고(동시 실행 수는 풀 크기로 제한), 키별 실패는 결과에 모아 돌려준다.
      *
      * @param fileNames 파일 이름 리스트
+     * @return 삭제 수와 키별 실패 사유
      */
-    public void deleteFiles(List<String> fileNames) {
+    public S3DeleteResult deleteFiles(List<String> fileNames) {
 
         if (fileNames == null || fileNames.isEmpty()) {
-            return;
+            return new S3DeleteResult(0, Map.of());
         }
 
-        for (String fileName : fileNames) {
-            s3Client.deleteObject(bucketName, fileName);
+        List<String> keys = fileNames.stream()
+                .filter(Objects::nonNull)
+                .flatMap(fileName -> thumbnailGenerator.variantKeys(fileName).stream())
+                .distinct()
+                .toList();
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i += MAX_DELETE_BATCH) {
+            batches.add(keys.subList(i, Math.min(i + MAX_DELETE_BATCH, keys.size())));
+        }
+
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        AtomicInteger deleted = new AtomicInteger();
+        if (batches.size() == 1) {
+            deleteBatch(batches.get(0), deleted, failures);
+        } else {
+            CompletableFuture.allOf(batches.stream()
+                            .map(batch -> CompletableFuture.runAsync(
+                                    () -> deleteBatch(batch, deleted, failures), s3DeleteExecutor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        }
+
+        if (!failures.isEmpty()) {
+            log.error("S3 일괄 삭제 일부 실패: deleted={}, failed={}, sample={}", deleted.get(),
+                    failures.size(), failures.entrySet().stream().limit(10).toList());
+        }
+        return new S3DeleteResult(deleted.get(), Map.copyOf(failures));
+    }
+
+    private void deleteBatch(List<String> keys, AtomicInteger deleted,
+            Map<String, String> failures) {
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                .withKeys(keys.toArray(String[]::new))
+                .withQuiet(true);
+        try {
+            s3Client.deleteObjects(request);
+            deleted.addAndGet(keys.size());
+        } catch (MultiObjectDeleteException e) {
+            // quiet 모드: 실패한 키만 돌아오고 나머지는 삭제됨
+            e.getErrors().forEach(error ->
+                    failures.put(error.getKey(), error.getCode() + ": " + error.getMessage()));
+            deleted.addAndGet(keys.size() - e.getErrors().size());
+        } catch (RuntimeException e) {
+            keys.forEach(key -> failures.put(key, e.getMessage()));
         }
     }
 
@@ -185,7 +562,50 @@ public class AwsS3Util {
      * @param fileName 파일 이름
      */
     public void deleteFile(String fileName) {
-        s3Client.deleteObject(bucketName, fileName);
+        // 썸네일 대표 키면 다른 크기도 함께 삭제
+        List<String> keys = thumbnailGenerator.variantKeys(fileName);
+        if (keys.size() == 1) {
+            s3Client.deleteObject(bucketName, fileName);
+            return;
+        }
+        deleteFiles(keys);
+    }
+
+
+    /**
+     * 마지막 수정 시각이 기준보다 오래된 객체 키 목록 (페이지 단위로 전체 조회)
+     *
+     * @param cutoff 기준 시각
+     * @return 객체 키 리스트
+     */
+    public List<String> listKeysOlderThan(Instant cutoff) {
+        List<String> keys = new ArrayList<>();
+        ListObjectsV2Request request = new ListObjectsV2Request().withBucketName(bucketName);
+        ListObjectsV2Result result;
+        do {
+            result = s3Client.listObjectsV2(request);
+            for (S3ObjectSummary summary : result.getObjectSummaries()) {
+                if (summary.getLastModified().toInstant().isBefore(cutoff)) {
+                    keys.add(summary.getKey());
+                }
+            }
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+        return keys;
+    }
+
+
+    /**
+     * 서명된 GET URL 생성 (버킷 공개 읽기 없이 다운로드)
+     *
+     * @param fileName 파일 이름
+     * @param expiry   유효 시간
+     * @return presigned URL
+     */
+    public String getPresignedUrl(String fileName, Duration expiry) {
+        Date expiration = new Date(System.currentTimeMillis() + expiry.toMillis());
+        return s3Client.generatePresignedUrl(bucketName, fileName, expiration, HttpMethod.GET)
+                .toString();
     }
 
 
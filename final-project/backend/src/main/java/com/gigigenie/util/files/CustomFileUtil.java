@@ -3,18 +3,27 @@ package com.gigigenie.util.files;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StreamUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.*;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @Log4j2
@@ -64,30 +73,105 @@ public class CustomFileUtil {
     }
 
     /**
-     * 파일 가져오기
-     * @param fileName 파일명
-     * @return 파일 리소스
+     * 파일 s3 스트리밍 업로드 (썸네일 없이 원본, 힙에 전체를 올리지 않음)
+     * @param file 업로드할 파일
+     * @return 업로드된 파일명, 크기, SHA-256
+     */
+    public S3UploadResult uploadS3FileStream(MultipartFile file) {
+        return s3Util.uploadStream(file, null);
+    }
+
+    /**
+     * 파일 s3 스트리밍 업로드 (이미 계산한 SHA-256 재사용, 업로드 중 다시 해시하지 않음)
+     * @param file   업로드할 파일
+     * @param sha256 {@link #sha256(MultipartFile)} 결과
+     * @return 업로드된 파일명, 크기, SHA-256
+     */
+    public S3UploadResult uploadS3FileStream(MultipartFile file, String sha256) {
+        return s3Util.uploadStream(file, sha256);
+    }
+
+    /**
+     * 파일 내용 SHA-256 (업로드 전 중복 확인용, 스풀된 임시 파일을 스트림으로 읽음)
+     * @param file 파일
+     * @return hex 문자열
+     */
+    public String sha256(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read file: " + e.getMessage());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 복사 (요청이 끝난 뒤 백그라운드 작업에서 읽기 위함)
+     * @param file 파일
+     * @return 임시 파일 경로
+     */
+    public Path copyToTempFile(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            Path temp = Files.createTempFile("upload-", ".pdf");
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            return temp;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to copy file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 임시 파일 삭제
+     * @param path 임시 파일 경로 (null이면 무시)
      */
-    public ResponseEntity<Resource> getFile(String fileName) {
+    public void deleteTempFile(Path path) {
+        if (path == null) {
+            return;
+        }
         try {
-            return s3Util.getFile(fileName);
+            Files.deleteIfExists(path);
         } catch (IOException e) {
-            e.printStackTrace();
-            log.error("getFile error: {}", e.getMessage());
+            log.error("Failed to delete temp file {}: {}", path, e.getMessage());
         }
-        return new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * 파일 가져오기 (Range / If-None-Match 지원 스트리밍)
+     * @param fileName 파일명
+     * @param requestHeaders 클라이언트 요청 헤더
+     * @return 파일 스트림 응답
+     */
+    public ResponseEntity<StreamingResponseBody> getFile(String fileName, HttpHeaders requestHeaders) {
+        return s3Util.getFile(fileName, requestHeaders);
     }
 
 
     /**
-     * s3 파일 삭제
+     * s3 파일 일괄 삭제 (최대 1000개씩 multi-object delete)
      * @param fileNames 삭제할 파일명 리스트
+     * @return 삭제 수와 키별 실패 사유
      */
-    public void deleteS3Files(List<String> fileNames) {
+    public S3DeleteResult deleteS3Files(List<String> fileNames) {
         if (fileNames == null || fileNames.isEmpty()) {
-            return;
+            return new S3DeleteResult(0, Map.of());
         }
-        s3Util.deleteFiles(fileNames);
+        return s3Util.deleteFiles(fileNames);
+    }
+
+    /**
+     * 기준 시각보다 오래된 s3 파일 목록
+     * @param cutoff 기준 시각
+     * @return 파일명 리스트
+     */
+    public List<String> listS3FilesOlderThan(Instant cutoff) {
+        return s3Util.listKeysOlderThan(cutoff);
     }
 
     /**
@@ -238,6 +322,17 @@ public class CustomFileUtil {
     }
 
 
+    /**
+     * 서명된 다운로드 URL
+     * @param fileName 파일명
+     * @param expiry 유효 시간
+     * @return presigned URL
+     */
+    public String getPresignedUrl(String fileName, Duration expiry) {
+        return s3Util.getPresignedUrl(fileName, expiry);
+    }
+
+
     /**
      * S3에 저장된 이미지 경로를 가져온다.
      * @param stringList 이미지 파일 이름 리스트
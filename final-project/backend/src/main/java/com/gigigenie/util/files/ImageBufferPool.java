@@ -0,0 +1,65 @@
+package com.gigigenie.util.files;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 썸네일 인코딩 버퍼 풀
+ * <p>
+ * 인코딩 결과를 담는 버퍼를 재사용한다. 반납된 버퍼는 maxPooled개까지만 보관하고, maxRetainedBytes보다 커진 버퍼는
+ * 힙에 남지 않도록 버린다.
+ */
+class ImageBufferPool {
+
+    private static final int INITIAL_SIZE = 64 * 1024;
+
+    private final int maxPooled;
+    private final int maxRetainedBytes;
+    private final ConcurrentLinkedQueue<ImageBuffer> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    ImageBufferPool(int maxPooled, int maxRetainedBytes) {
+        this.maxPooled = maxPooled;
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    ImageBuffer acquire() {
+        ImageBuffer buffer = free.poll();
+        if (buffer == null) {
+            return new ImageBuffer(INITIAL_SIZE);
+        }
+        pooled.decrementAndGet();
+        buffer.reset();
+        return buffer;
+    }
+
+    void release(ImageBuffer buffer) {
+        if (buffer.capacity() > maxRetainedBytes) {
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        free.offer(buffer);
+    }
+
+    // 내부 배열을 복사 없이 읽을 수 있는 출력 버퍼
+    static class ImageBuffer extends ByteArrayOutputStream {
+
+        ImageBuffer(int size) {
+            super(size);
+        }
+
+        synchronized InputStream inputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+
+        synchronized int capacity() {
+            return buf.length;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.gigigenie.util.files;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 멀티파트 파트 버퍼 풀
+ * <p>
+ * 고정 크기 버퍼를 최대 maxBuffers개까지만 만들어 재사용한다. 동시 업로드가 많아도 파트 버퍼가 차지하는 힙은
+ * bufferSize * maxBuffers를 넘지 않고, 버퍼가 모두 사용 중이면 반납될 때까지 기다린다.
+ */
+class PartBufferPool {
+
+    private final int bufferSize;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<byte[]> free = new ConcurrentLinkedQueue<>();
+
+    PartBufferPool(int bufferSize, int maxBuffers) {
+        this.bufferSize = bufferSize;
+        this.permits = new Semaphore(maxBuffers, true);
+    }
+
+    byte[] acquire(long timeoutMillis) throws InterruptedException {
+        if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("업로드 버퍼를 확보하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        byte[] buffer = free.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    void release(byte[] buffer) {
+        free.offer(buffer);
+        permits.release();
+    }
+
+    int bufferSize() {
+        return bufferSize;
+    }
+}
@@ -0,0 +1,16 @@
+package com.gigigenie.util.files;
+
+import java.util.Map;
+
+/**
+ * 일괄 삭제 결과
+ *
+ * @param deleted  삭제된 키 수
+ * @param failures 삭제하지 못한 키 → 실패 사유
+ */
+public record S3DeleteResult(int deleted, Map<String, String> failures) {
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
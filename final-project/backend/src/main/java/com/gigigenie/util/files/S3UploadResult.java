@@ -0,0 +1,12 @@
+package com.gigigenie.util.files;
+
+/**
+ * 스트리밍 업로드 결과
+ *
+ * @param key    S3 객체 키
+ * @param size   업로드된 바이트 수
+ * @param sha256 업로드 중 계산한 내용 해시 (hex)
+ */
+public record S3UploadResult(String key, long size, String sha256) {
+
+}
@@ -0,0 +1,101 @@
+package com.gigigenie.util.files;
+
+import com.gigigenie.props.ProductProps;
+import com.gigigenie.util.files.ImageBufferPool.ImageBuffer;
+import jakarta.annotation.PostConstruct;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.stereotype.Component;
+
+/**
+ * 크기별 썸네일 생성기
+ * <p>
+ * 원본을 한 번만 디코딩(EXIF 회전 반영)한 뒤 설정된 크기마다 리사이즈해 풀에서 빌린 메모리 버퍼에 인코딩한다. 원본보다
+ * 큰 크기로는 확대하지 않는다. 키는 "{접두어}_{이름}" 형식이고 첫 번째 접두어의 키가 대표 키다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ThumbnailGenerator {
+
+    private final ProductProps productProps;
+
+    private ImageBufferPool bufferPool;
+
+    @PostConstruct
+    public void init() {
+        ProductProps.Thumbnail thumbnail = productProps.getThumbnail();
+        bufferPool = new ImageBufferPool(thumbnail.getMaxPooledBuffers(),
+            thumbnail.getMaxPooledBufferBytes());
+    }
+
+    /**
+     * 크기별 썸네일 렌더링 (CPU 작업, 반환된 버퍼는 {@link #release(List)}로 반납)
+     *
+     * @param in       원본 이미지
+     * @param baseName 키의 접두어 뒤에 붙일 이름
+     * @param format   출력 형식 (jpg, png 등)
+     * @return 설정 순서대로의 썸네일
+     */
+    List<Thumbnail> render(InputStream in, String baseName, String format) throws IOException {
+        BufferedImage source = Thumbnails.of(in).scale(1.0).asBufferedImage();
+        int longest = Math.max(source.getWidth(), source.getHeight());
+
+        List<Thumbnail> thumbnails = new ArrayList<>();
+        try {
+            for (Map.Entry<String, Integer> variant : variants().entrySet()) {
+                int size = Math.min(variant.getValue(), longest);
+                ImageBuffer buffer = bufferPool.acquire();
+                thumbnails.add(new Thumbnail(key(variant.getKey(), baseName), buffer));
+                Thumbnails.of(source)
+                    .size(size, size)
+                    .outputFormat(format)
+                    .toOutputStream(buffer);
+            }
+            return thumbnails;
+        } catch (IOException | RuntimeException e) {
+            release(thumbnails);
+            throw e;
+        } finally {
+            source.flush();
+        }
+    }
+
+    void release(List<Thumbnail> thumbnails) {
+        thumbnails.forEach(thumbnail -> bufferPool.release(thumbnail.buffer()));
+    }
+
+    /**
+     * 대표 키로부터 같은 이미지의 모든 크기별 키 (썸네일 키가 아니면 자기 자신만)
+     *
+     * @param key S3 키
+     * @return 삭제 등에 사용할 키 목록
+     */
+    public List<String> variantKeys(String key) {
+        String primary = variants().keySet().iterator().next() + "_";
+        if (!key.startsWith(primary)) {
+            return List.of(key);
+        }
+        String baseName = key.substring(primary.length());
+        return variants().keySet().stream()
+            .map(prefix -> key(prefix, baseName))
+            .toList();
+    }
+
+    private Map<String, Integer> variants() {
+        return productProps.getThumbnail().getVariants();
+    }
+
+    private static String key(String prefix, String baseName) {
+        return prefix + "_" + baseName;
+    }
+
+    record Thumbnail(String key, ImageBuffer buffer) {
+
+    }
+}
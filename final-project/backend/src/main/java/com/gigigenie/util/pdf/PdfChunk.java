@@ -0,0 +1,12 @@
+package com.gigigenie.util.pdf;
+
+/**
+ * PDF 텍스트 청크
+ *
+ * @param index 문서 내 순번 (0부터)
+ * @param page  청크가 나온 페이지 (1부터)
+ * @param text  본문
+ */
+public record PdfChunk(int index, int page, String text) {
+
+}
@@ -0,0 +1,167 @@
+package com.gigigenie.util.pdf;
+
+import com.gigigenie.props.ProductProps;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.stereotype.Component;
+
+/**
+ * PDFBox 기반 PDF 텍스트 추출 및 청크 분할
+ * <p>
+ * 페이지 범위를 반씩 나누는 fork-join 작업으로 추출한다. PDDocument는 스레드 안전하지 않으므로 작업마다 문서를 따로
+ * 열고(임시 파일 스크래치 사용) 맡은 페이지만 읽는다. 청크는 페이지 단위로 chunkSize 문자씩, chunkOverlap 만큼 겹치게
+ * 자르며 가능하면 줄바꿈/공백에서 끊는다.
+ */
+@Slf4j
+@Component
+public class PdfTextExtractor {
+
+    private final ProductProps.Extraction props;
+    private final ForkJoinPool pool;
+
+    public PdfTextExtractor(ProductProps productProps) {
+        this.props = productProps.getExtraction();
+        int parallelism = props.getParallelism() > 0
+            ? props.getParallelism() : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * PDF 파일을 청크 목록으로 변환
+     *
+     * @param pdf 로컬 PDF 파일
+     * @return 페이지 순서대로 정렬된 청크
+     * @throws IOException 읽을 수 없거나 암호화된 PDF
+     */
+    public List<PdfChunk> extract(Path pdf) throws IOException {
+        int pages;
+        try (PDDocument document = load(pdf)) {
+            if (document.isEncrypted()) {
+                throw new IOException("암호화된 PDF는 추출할 수 없습니다.");
+            }
+            pages = document.getNumberOfPages();
+        }
+
+        long startedAt = System.currentTimeMillis();
+        List<PageChunks> perPage;
+        try {
+            perPage = pool.invoke(new ExtractTask(pdf, 1, pages));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        List<PdfChunk> chunks = new ArrayList<>();
+        for (PageChunks page : perPage) {
+            for (String text : page.texts()) {
+                chunks.add(new PdfChunk(chunks.size(), page.page(), text));
+            }
+        }
+        log.info("PDF 추출 완료: pages={}, chunks={}, {}ms", pages, chunks.size(),
+            System.currentTimeMillis() - startedAt);
+        return chunks;
+    }
+
+    // 페이지 텍스트를 겹치는 청크로 분할
+    List<String> split(String text) {
+        List<String> chunks = new ArrayList<>();
+        String normalized = text.strip();
+        int size = props.getChunkSize();
+        int overlap = Math.min(props.getChunkOverlap(), size / 2);
+
+        int start = 0;
+        while (start < normalized.length()) {
+            int end = Math.min(start + size, normalized.length());
+            if (end < normalized.length()) {
+                int cut = lastBreak(normalized, start + size / 2, end);
+                if (cut > 0) {
+                    end = cut;
+                }
+            }
+            String chunk = normalized.substring(start, end).strip();
+            if (!chunk.isEmpty()) {
+                chunks.add(chunk);
+            }
+            if (end >= normalized.length()) {
+                break;
+            }
+            start = Math.max(end - overlap, start + 1);
+        }
+        return chunks;
+    }
+
+    // [from, to) 범위에서 마지막 줄바꿈, 없으면 마지막 공백 위치
+    private static int lastBreak(String text, int from, int to) {
+        int newline = text.lastIndexOf('\n', to - 1);
+        if (newline >= from) {
+            return newline + 1;
+        }
+        int space = text.lastIndexOf(' ', to - 1);
+        return space >= from ? space + 1 : -1;
+    }
+
+    private static PDDocument load(Path pdf) throws IOException {
+        return PDDocument.load(pdf.toFile(), MemoryUsageSetting.setupTempFileOnly());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private record PageChunks(int page, List<String> texts) {
+
+    }
+
+    private class ExtractTask extends RecursiveTask<List<PageChunks>> {
+
+        private final Path pdf;
+        private final int startPage;
+        private final int endPage;
+
+        ExtractTask(Path pdf, int startPage, int endPage) {
+            this.pdf = pdf;
+            this.startPage = startPage;
+            this.endPage = endPage;
+        }
+
+        @Override
+        protected List<PageChunks> compute() {
+            if (endPage - startPage + 1 <= Math.max(props.getPagesPerTask(), 1)) {
+                return extractRange();
+            }
+            int mid = (startPage + endPage) / 2;
+            ExtractTask left = new ExtractTask(pdf, startPage, mid);
+            ExtractTask right = new ExtractTask(pdf, mid + 1, endPage);
+            left.fork();
+            List<PageChunks> result = new ArrayList<>(right.compute());
+            result.addAll(0, left.join());
+            return result;
+        }
+
+        private List<PageChunks> extractRange() {
+            List<PageChunks> result = new ArrayList<>(endPage - startPage + 1);
+            try (PDDocument document = load(pdf)) {
+                PDFTextStripper stripper = new PDFTextStripper();
+                stripper.setSortByPosition(true);
+                for (int page = startPage; page <= endPage; page++) {
+                    stripper.setStartPage(page);
+                    stripper.setEndPage(page);
+                    result.add(new PageChunks(page, split(stripper.getText(document))));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.gigigenie.util.rag;
+
+import com.gigigenie.domain.product.dto.UploadResponse;
+import com.gigigenie.util.pdf.PdfChunk;
+import java.util.List;
+
+/**
+ * 추출된 청크를 임베딩/벡터스토어에 저장하는 인덱싱 엔드포인트 (운영: {@link RagClient}, 테스트: 목 구현)
+ */
+public interface ChunkIndexer {
+
+    /**
+     * @param productId 제품 ID (벡터스토어 식별자)
+     * @param chunks    페이지 정보가 포함된 청크
+     * @return 인덱싱 결과
+     */
+    UploadResponse indexChunks(Long productId, List<PdfChunk> chunks);
+}
@@ -0,0 +1,212 @@
+package com.gigigenie.util.rag;
+
+import com.gigigenie.domain.chat.dto.ChatStreamChunk;
+import com.gigigenie.domain.chat.dto.FastApiRequest;
+import com.gigigenie.domain.product.dto.ChunkIndexRequest;
+import com.gigigenie.domain.product.dto.LinkRequest;
+import com.gigigenie.domain.product.dto.UploadRequest;
+import com.gigigenie.domain.product.dto.UploadResponse;
+import com.gigigenie.exception.RagServiceUnavailableException;
+import com.gigigenie.props.RagProps;
+import com.gigigenie.util.pdf.PdfChunk;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * FastAPI RAG 서버 클라이언트
+ * <p>
+ * 채팅(/chat, /chat/stream)과 인덱싱(/upload, /upload/chunks, /link)은 서로 다른 커넥션 풀·벌크헤드·서킷브레이커를 사용한다. 인덱싱이 밀려도 채팅이,
+ * RAG 서버가 느려져도 다른 API가 스레드를 빼앗기지 않도록 동시 호출 수를 넘는 요청과 서킷이 열린 동안의 요청은 대기 없이
+ * {@link RagServiceUnavailableException}(503)으로 실패시킨다. 지표는 resilience4j가 Micrometer로 내보내는
+ * ragChat/ragIndex 인스턴스 지표와 rag.client.rejected 카운터로 확인한다.
+ */
+@Slf4j
+@Component
+public class RagClient implements ChunkIndexer {
+
+    private static final String CHAT = "ragChat";
+    private static final String INDEX = "ragIndex";
+
+    private final WebClient ragWebClient;
+    private final WebClient ragIndexWebClient;
+    private final RagProps ragProps;
+    private final MeterRegistry meterRegistry;
+
+    private final CircuitBreaker chatBreaker;
+    private final CircuitBreaker indexBreaker;
+    private final Bulkhead chatBulkhead;
+    private final Bulkhead indexBulkhead;
+
+    public RagClient(@Qualifier("ragWebClient") WebClient ragWebClient,
+        @Qualifier("ragIndexWebClient") WebClient ragIndexWebClient, RagProps ragProps,
+        CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+        MeterRegistry meterRegistry) {
+        this.ragWebClient = ragWebClient;
+        this.ragIndexWebClient = ragIndexWebClient;
+        this.ragProps = ragProps;
+        this.meterRegistry = meterRegistry;
+        this.chatBreaker = circuitBreakerRegistry.circuitBreaker(CHAT);
+        this.indexBreaker = circuitBreakerRegistry.circuitBreaker(INDEX);
+        this.chatBulkhead = bulkheadRegistry.bulkhead(CHAT);
+        this.indexBulkhead = bulkheadRegistry.bulkhead(INDEX);
+    }
+
+    /**
+     * 질의응답 (전체 답변)
+     *
+     * @param request productId, 질문, 이력
+     * @return 답변
+     */
+    public String chat(FastApiRequest request) {
+        return post(ragWebClient, "/chat", request)
+            .bodyToMono(String.class)
+            .switchIfEmpty(Mono.error(new IllegalStateException("응답이 비어있음")))
+            .timeout(ragProps.getChat().getResponseTimeout())
+            .transformDeferred(CircuitBreakerOperator.of(chatBreaker))
+            .transformDeferred(BulkheadOperator.of(chatBulkhead))
+            .onErrorMap(e -> toUnavailable(CHAT, e))
+            .block();
+    }
+
+    /**
+     * 질의응답 (SSE 스트리밍) - 스트림이 끝날 때까지 채팅 벌크헤드 한 자리를 점유
+     *
+     * @param request productId, 질문, 이력
+     * @return 답변 청크 (data는 JSON {"t": "..."}, 줄바꿈만 있는 청크도 보존)
+     */
+    public Flux<String> streamChat(FastApiRequest request) {
+        return post(ragWebClient, "/chat/stream", request, MediaType.TEXT_EVENT_STREAM)
+            .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<ChatStreamChunk>>() {
+            })
+            .mapNotNull(ServerSentEvent::data)
+            .mapNotNull(ChatStreamChunk::getT)
+            .timeout(ragProps.getChat().getStreamIdleTimeout())
+            .transformDeferred(CircuitBreakerOperator.of(chatBreaker))
+            .transformDeferred(BulkheadOperator.of(chatBulkhead))
+            .onErrorMap(e -> toUnavailable(CHAT, e));
+    }
+
+    /**
+     * PDF 인덱싱 요청
+     *
+     * @param request productId, 파일 URL
+     * @return 인덱싱 결과
+     */
+    public UploadResponse upload(UploadRequest request) {
+        return post(ragIndexWebClient, "/upload", request)
+            .bodyToMono(UploadResponse.class)
+            .switchIfEmpty(Mono.error(new IllegalStateException("응답이 비어있음")))
+            .timeout(ragProps.getIndex().getResponseTimeout())
+            .transformDeferred(CircuitBreakerOperator.of(indexBreaker))
+            .transformDeferred(BulkheadOperator.of(indexBulkhead))
+            .onErrorMap(e -> toUnavailable(INDEX, e))
+            .block();
+    }
+
+    /**
+     * 백엔드에서 추출한 청크 인덱싱 (RAG 서버는 PDF 다운로드/파싱 없이 임베딩만 수행)
+     *
+     * @param productId 제품 ID
+     * @param chunks    페이지 정보가 포함된 청크
+     * @return 인덱싱 결과
+     */
+    @Override
+    public UploadResponse indexChunks(Long productId, List<PdfChunk> chunks) {
+        return post(ragIndexWebClient, "/upload/chunks", new ChunkIndexRequest(productId, chunks))
+            .bodyToMono(UploadResponse.class)
+            .switchIfEmpty(Mono.error(new IllegalStateException("응답이 비어있음")))
+            .timeout(ragProps.getIndex().getResponseTimeout())
+            .transformDeferred(CircuitBreakerOperator.of(indexBreaker))
+            .transformDeferred(BulkheadOperator.of(indexBulkhead))
+            .onErrorMap(e -> toUnavailable(INDEX, e))
+            .block();
+    }
+
+    /**
+     * 이미 인덱싱된 제품의 벡터스토어를 새 제품에 연결 (임베딩 생략)
+     *
+     * @param request 원본 productId, 새 productId
+     * @return 연결 결과
+     * @throws IllegalArgumentException 원본 벡터스토어가 없는 경우 (4xx)
+     */
+    public UploadResponse link(LinkRequest request) {
+        return post(ragIndexWebClient, "/link", request)
+            .bodyToMono(UploadResponse.class)
+            .switchIfEmpty(Mono.error(new IllegalStateException("응답이 비어있음")))
+            .timeout(ragProps.getIndex().getResponseTimeout())
+            .transformDeferred(CircuitBreakerOperator.of(indexBreaker))
+            .transformDeferred(BulkheadOperator.of(indexBulkhead))
+            .onErrorMap(e -> toUnavailable(INDEX, e))
+            .block();
+    }
+
+    private WebClient.ResponseSpec post(WebClient webClient, String uri, Object body,
+        MediaType... accept) {
+        WebClient.RequestBodySpec spec = webClient.post().uri(uri);
+        if (accept.length > 0) {
+            spec = spec.accept(accept);
+        }
+        return spec
+            .bodyValue(body)
+            .retrieve()
+            .onStatus(HttpStatusCode::is4xxClientError, res ->
+                res.bodyToMono(String.class)
+                    .defaultIfEmpty("요청 본문 없음")
+                    .flatMap(msg -> Mono.error(
+                        new IllegalArgumentException("잘못된 요청: " + msg)
+                    ))
+            )
+            .onStatus(HttpStatusCode::is5xxServerError, res ->
+                res.bodyToMono(String.class)
+                    .defaultIfEmpty("서버 오류 본문 없음")
+                    .flatMap(msg -> Mono.error(
+                        new IllegalStateException("서버 오류: " + msg)
+                    ))
+            );
+    }
+
+    // 빠른 실패 대상 예외를 503 예외로 변환
+    private Throwable toUnavailable(String name, Throwable e) {
+        String reason;
+        String message;
+        if (e instanceof CallNotPermittedException) {
+            reason = "circuit_open";
+            message = "AI 서버 장애로 요청을 일시적으로 차단했습니다. 잠시 후 다시 시도해주세요.";
+        } else if (e instanceof BulkheadFullException) {
+            reason = "bulkhead_full";
+            message = "AI 서버 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+        } else if (e instanceof TimeoutException) {
+            reason = "timeout";
+            message = "AI 서버 응답 시간이 초과되었습니다.";
+        } else if (e instanceof WebClientRequestException) {
+            reason = "connect";
+            message = "AI 서버에 연결할 수 없습니다.";
+        } else {
+            return e;
+        }
+        log.warn("RAG 호출 실패 ({}, {}): {}", name, reason, e.getMessage());
+        meterRegistry.counter("rag.client.rejected", "client", name, "reason", reason)
+            .increment();
+        return new RagServiceUnavailableException(message, e);
+    }
+}
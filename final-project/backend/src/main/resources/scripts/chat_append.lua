@@ -0,0 +1,13 @@
+-- 채팅 세션 원자적 추가
+-- KEYS[1] : 세션 키 (chat:{memberId}:{productId})
+-- ARGV[1] : TTL(초)
+-- ARGV[2] : 추가 후 함께 돌려줄 최근 메시지 수 (0이면 이력 없이 시퀀스만)
+-- ARGV[3..]: 추가할 메시지(JSON)
+-- 반환값  : {시퀀스(추가 후 리스트 길이 = RPUSH 결과), [최근 N건]}
+local seq = redis.call('RPUSH', KEYS[1], unpack(ARGV, 3))
+redis.call('EXPIRE', KEYS[1], ARGV[1])
+local window = tonumber(ARGV[2])
+if window > 0 then
+    return { seq, redis.call('LRANGE', KEYS[1], -window, -1) }
+end
+return { seq }
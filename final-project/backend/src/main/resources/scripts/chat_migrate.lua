@@ -0,0 +1,27 @@
+-- 레거시 채팅 세션 원자적 변환 (문자열 키의 ChatMessage[] JSON → 메시지 1건당 LIST 원소 1개)
+-- KEYS[1] : 세션 키 (chat:{memberId}:{productId})
+-- ARGV[1] : 남은 TTL이 없을 때 쓸 TTL(초)
+-- 반환값  : 변환한 메시지 수, 이미 LIST이거나 키가 없으면 -1, 그 밖의 타입이면 -2
+local keyType = redis.call('TYPE', KEYS[1])['ok']
+if keyType == 'list' or keyType == 'none' then
+    return -1
+end
+if keyType ~= 'string' then
+    return -2
+end
+local history = cjson.decode(redis.call('GET', KEYS[1]))
+local ttl = redis.call('TTL', KEYS[1])
+redis.call('DEL', KEYS[1])
+if #history == 0 then
+    return 0
+end
+local values = {}
+for i, message in ipairs(history) do
+    values[i] = cjson.encode(message)
+end
+redis.call('RPUSH', KEYS[1], unpack(values))
+if ttl <= 0 then
+    ttl = ARGV[1]
+end
+redis.call('EXPIRE', KEYS[1], ttl)
+return #history
@@ -0,0 +1,145 @@
+package com.gigigenie.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gigigenie.domain.chat.service.ChatAnswerCache;
+import com.gigigenie.domain.notification.service.NotificationService;
+import com.gigigenie.domain.product.dto.IndexingJob;
+import com.gigigenie.domain.product.dto.LinkRequest;
+import com.gigigenie.domain.product.dto.UploadRequest;
+import com.gigigenie.domain.product.dto.UploadResponse;
+import com.gigigenie.domain.product.repository.ProductRepository;
+import com.gigigenie.props.ProductProps;
+import com.gigigenie.util.files.CustomFileUtil;
+import com.gigigenie.util.pdf.PdfChunk;
+import com.gigigenie.util.pdf.PdfTextExtractor;
+import com.gigigenie.util.pdf.TestPdfs;
+import com.gigigenie.util.rag.ChunkIndexer;
+import com.gigigenie.util.rag.RagClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class ProductIndexerTest {
+
+    private static final String FILE_URL = "https://s3.example/manual.pdf";
+
+    @TempDir
+    Path tempDir;
+
+    private final List<PdfChunk> indexedChunks = new ArrayList<>();
+    private final ChunkIndexer chunkIndexer = (productId, chunks) -> {
+        indexedChunks.addAll(chunks);
+        return new UploadResponse("chunks", productId, "stores/" + productId);
+    };
+
+    private RagClient ragClient;
+    private PdfTextExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        ragClient = mock(RagClient.class);
+        when(ragClient.link(any())).thenAnswer(inv -> {
+            LinkRequest request = inv.getArgument(0);
+            return new UploadResponse("linked", request.getProductId(), "stores/linked");
+        });
+        when(ragClient.upload(any())).thenAnswer(inv -> {
+            UploadRequest request = inv.getArgument(0);
+            return new UploadResponse("uploaded", request.getProductId(), "stores/uploaded");
+        });
+
+        ProductProps props = new ProductProps();
+        props.getExtraction().setParallelism(1);
+        extractor = new PdfTextExtractor(props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        extractor.shutdown();
+    }
+
+    @Test
+    void linksExistingVectorStoreWithoutExtracting() throws Exception {
+        UploadResponse response = indexer(extractor)
+            .index(job(2L, 1L), FILE_URL, TestPdfs.write(tempDir, "manual"));
+
+        assertThat(response.getMessage()).isEqualTo("linked");
+        assertThat(indexedChunks).isEmpty();
+        verify(ragClient, never()).upload(any());
+    }
+
+    @Test
+    void indexesExtractedChunksWhenLinkSourceIsMissing() throws Exception {
+        when(ragClient.link(any())).thenThrow(new IllegalArgumentException("no store"));
+        IndexingJob job = job(2L, 1L);
+
+        UploadResponse response = indexer(extractor)
+            .index(job, FILE_URL, TestPdfs.write(tempDir, "manual"));
+
+        assertThat(response.getMessage()).isEqualTo("chunks");
+        assertThat(job.getLinkedFrom()).isNull();
+        assertThat(indexedChunks).extracting(PdfChunk::text).containsExactly("manual");
+    }
+
+    @Test
+    void indexesExtractedChunks() throws Exception {
+        UploadResponse response = indexer(extractor)
+            .index(job(3L, null), FILE_URL,
+                TestPdfs.write(tempDir, "first page", "second page"));
+
+        assertThat(response.getPdfId()).isEqualTo(3L);
+        assertThat(indexedChunks).extracting(PdfChunk::page).containsExactly(1, 2);
+        verify(ragClient, never()).upload(any());
+    }
+
+    @Test
+    void fallsBackToRagUploadWhenPdfIsNotReadable() throws Exception {
+        Path broken = Files.write(tempDir.resolve("broken.pdf"), "not a pdf".getBytes());
+
+        UploadResponse response = indexer(extractor).index(job(4L, null), FILE_URL, broken);
+
+        assertThat(response.getMessage()).isEqualTo("uploaded");
+        assertThat(indexedChunks).isEmpty();
+    }
+
+    @Test
+    void fallsBackToRagUploadWhenExtractionThrowsRuntimeException() throws Exception {
+        PdfTextExtractor failing = mock(PdfTextExtractor.class);
+        when(failing.extract(any())).thenThrow(new IllegalStateException("encrypted"));
+
+        UploadResponse response = indexer(failing)
+            .index(job(5L, null), FILE_URL, TestPdfs.write(tempDir, "manual"));
+
+        assertThat(response.getMessage()).isEqualTo("uploaded");
+        verify(ragClient).upload(any());
+    }
+
+    private ProductIndexer indexer(PdfTextExtractor pdfTextExtractor) {
+        return new ProductIndexer(mock(ThreadPoolTaskExecutor.class), mock(IndexingJobStore.class),
+            ragClient, chunkIndexer, pdfTextExtractor, mock(ProductRepository.class),
+            mock(CustomFileUtil.class), mock(ChatAnswerCache.class),
+            mock(ProductChangeNotifier.class), mock(NotificationService.class),
+            new SimpleMeterRegistry());
+    }
+
+    private static IndexingJob job(Long productId, Long linkedFrom) {
+        return IndexingJob.builder()
+            .jobId("job-" + productId)
+            .productId(productId)
+            .linkedFrom(linkedFrom)
+            .state(IndexingJob.State.RUNNING)
+            .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.gigigenie.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class PublicRoutesTest {
+
+    private final PublicRoutes routes = PublicRoutes.MATCHER;
+
+    @Test
+    void matchesExactPaths() {
+        assertThat(routes.matches("/api/member/login")).isTrue();
+        assertThat(routes.matches("/api/product/list")).isTrue();
+        assertThat(routes.matches("/api/product/list/page")).isTrue();
+    }
+
+    @Test
+    void matchesPrefixPatternsIncludingBase() {
+        assertThat(routes.matches("/oauth2")).isTrue();
+        assertThat(routes.matches("/oauth2/authorization/google")).isTrue();
+        assertThat(routes.matches("/login/oauth2/code/google")).isTrue();
+        assertThat(routes.matches("/swagger-ui/index.html")).isTrue();
+    }
+
+    @Test
+    void doesNotMatchProtectedPaths() {
+        assertThat(routes.matches("/api/product/1/download")).isFalse();
+        assertThat(routes.matches("/api/product/listing")).isFalse();
+        assertThat(routes.matches("/api/member/logout")).isFalse();
+        assertThat(routes.matches("/oauth2x")).isFalse();
+        assertThat(routes.matches("/api/chat/stream")).isFalse();
+    }
+
+    @Test
+    void stripsContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/product/list");
+        request.setContextPath("/app");
+
+        assertThat(routes.matches(request)).isTrue();
+    }
+
+    @Test
+    void rejectsUnsupportedWildcards() {
+        assertThatThrownBy(() -> new PublicRoutes(List.of("/api/*/list")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.gigigenie.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gigigenie.exception.CustomJWTException;
+import com.gigigenie.props.JwtProps;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JWTUtilTest {
+
+    private static final String OLD_SECRET = "old-secret-key-for-test-0123456789abcdef";
+    private static final String NEW_SECRET = "new-secret-key-for-test-0123456789abcdef";
+
+    @Test
+    void validatesTokenIssuedWithCurrentKey() {
+        JWTUtil jwtUtil = jwtUtil(props(NEW_SECRET, "v2", Map.of()));
+
+        String token = jwtUtil.generateToken(Map.of("email", "user@test.com"), 10);
+
+        assertThat(jwtUtil.validateToken(token)).containsEntry("email", "user@test.com");
+    }
+
+    @Test
+    void validatesTokenIssuedBeforeRotation() {
+        String token = jwtUtil(props(OLD_SECRET, "v1", Map.of()))
+            .generateToken(Map.of("email", "user@test.com"), 10);
+
+        JWTUtil rotated = jwtUtil(props(NEW_SECRET, "v2", Map.of("v1", OLD_SECRET)));
+
+        assertThat(rotated.validateToken(token)).containsEntry("email", "user@test.com");
+    }
+
+    @Test
+    void rejectsTokenSignedWithRetiredKey() {
+        String token = jwtUtil(props(OLD_SECRET, "v1", Map.of()))
+            .generateToken(Map.of("email", "user@test.com"), 10);
+
+        JWTUtil rotated = jwtUtil(props(NEW_SECRET, "v2", Map.of()));
+
+        assertThatThrownBy(() -> rotated.validateToken(token))
+            .isInstanceOf(CustomJWTException.class);
+    }
+
+    private static JwtProps props(String secret, String keyId, Map<String, String> previous) {
+        JwtProps props = new JwtProps();
+        props.setSecretKey(secret);
+        props.setKeyId(keyId);
+        props.setVerificationKeys(previous);
+        return props;
+    }
+
+    private static JWTUtil jwtUtil(JwtProps props) {
+        JWTUtil jwtUtil = new JWTUtil(props);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
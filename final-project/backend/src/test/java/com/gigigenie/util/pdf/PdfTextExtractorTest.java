@@ -0,0 +1,59 @@
+package com.gigigenie.util.pdf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gigigenie.props.ProductProps;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PdfTextExtractorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PdfTextExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        ProductProps props = new ProductProps();
+        props.getExtraction().setParallelism(2);
+        props.getExtraction().setPagesPerTask(1);
+        props.getExtraction().setChunkSize(40);
+        props.getExtraction().setChunkOverlap(10);
+        extractor = new PdfTextExtractor(props);
+    }
+
+    @AfterEach
+    void tearDown() {
+        extractor.shutdown();
+    }
+
+    @Test
+    void extractsChunksInPageOrderAcrossTasks() throws Exception {
+        Path pdf = TestPdfs.write(tempDir, "first page text", "second page text",
+            "third page text");
+
+        List<PdfChunk> chunks = extractor.extract(pdf);
+
+        assertThat(chunks).extracting(PdfChunk::page).containsExactly(1, 2, 3);
+        assertThat(chunks).extracting(PdfChunk::index).containsExactly(0, 1, 2);
+        assertThat(chunks.get(1).text()).isEqualTo("second page text");
+    }
+
+    @Test
+    void splitsLongTextWithOverlapAtWordBoundaries() {
+        String text = "alpha beta gamma delta epsilon zeta eta theta iota kappa lambda mu nu xi";
+
+        List<String> chunks = extractor.split(text);
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.length()).isLessThanOrEqualTo(40));
+        // 다음 청크는 앞 청크의 끝부분을 포함
+        String firstTail = chunks.get(0).substring(chunks.get(0).lastIndexOf(' ') + 1);
+        assertThat(chunks.get(1)).contains(firstTail);
+    }
+}
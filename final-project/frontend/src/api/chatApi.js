@@ -1,4 +1,5 @@
 import axiosInstance from './axiosInstance';
+import { API_SERVER_HOST } from '../config/ApiConfig';
 import store from '../redux/Store';
 import { updateRecents } from '../redux/LoginSlice';
 import { showToastMessage } from '../redux/NotificationSlice';
@@ -158,3 +159,62 @@ export const getRecentProducts = async () => {
         return [];
     }
 };
+
+// 7. 스트리밍 대화 (SSE) - data는 {"t": "..."} JSON이므로 파싱해서 앞 공백/줄바꿈을 그대로 보존
+export const streamChat = async (productId, question, { onChunk, onDone, onError } = {}) => {
+    const response = await fetch(`${API_SERVER_HOST}/api/chat/stream`, {
+        method: 'POST',
+        headers: {
+            'Content-Type': 'application/json',
+            Accept: 'text/event-stream',
+        },
+        credentials: 'include',
+        body: JSON.stringify({ productId, question }),
+    });
+    if (!response.ok || !response.body) {
+        throw new Error(`스트리밍 대화 실패: ${response.status}`);
+    }
+
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder();
+    let buffer = '';
+
+    const dispatch = (frame) => {
+        let event = 'message';
+        let id = null;
+        const data = [];
+        for (const line of frame.split('\n')) {
+            if (line.startsWith('event:')) {
+                event = line.slice(6).trim();
+            } else if (line.startsWith('id:')) {
+                id = line.slice(3).trim();
+            } else if (line.startsWith('data:')) {
+                data.push(line.slice(5));
+            }
+        }
+        const payload = data.length ? JSON.parse(data.join('\n')) : null;
+        if (event === 'message') {
+            onChunk?.(payload.t);
+        } else if (event === 'done') {
+            onDone?.(id);
+        } else if (event === 'error') {
+            onError?.(payload?.t);
+        }
+    };
+
+    for (;;) {
+        const { value, done } = await reader.read();
+        if (done) {
+            break;
+        }
+        buffer += decoder.decode(value, { stream: true }).replace(/\r\n/g, '\n');
+        let boundary;
+        while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+            const frame = buffer.slice(0, boundary);
+            buffer = buffer.slice(boundary + 2);
+            if (frame.trim()) {
+                dispatch(frame);
+            }
+        }
+    }
+};
@@ -7,6 +7,22 @@ class UploadIn(BaseModel):
     fileUrl: str
 
 
+class ChunkIn(BaseModel):
+    index: int
+    page: int
+    text: str
+
+
+class ChunksIn(BaseModel):
+    pdf_id: int = Field(alias="productId")
+    chunks: List[ChunkIn]
+
+
+class LinkIn(BaseModel):
+    source_pdf_id: int = Field(alias="sourceProductId")
+    pdf_id: int = Field(alias="productId")
+
+
 class ChatIn(BaseModel):
     pdf_id: int = Field(alias="productId")
     question: str
@@ -1,8 +1,12 @@
+import json, os, shutil
 from typing import List
-from fastapi import FastAPI
-from app.api.schemas import UploadIn, ChatIn
+from fastapi import FastAPI, HTTPException
+from fastapi.responses import StreamingResponse
+from app.api.schemas import UploadIn, ChunksIn, LinkIn, ChatIn
+from app.rag.nodes import STORES_DIR
 from app.rag.state import GraphState, QueryState
-from app.rag.workflow import pdf_graph, query_graph
+from app.rag.workflow import pdf_graph, chunk_graph, query_graph
+from langchain_core.documents import Document
 from langchain_core.messages import HumanMessage, AIMessage, BaseMessage
 
 app = FastAPI(title="PDF RAG API")
@@ -20,8 +24,66 @@ async def file_upload(request: UploadIn):
     }
 
 
+# 백엔드(PDFBox)에서 추출한 청크 인덱싱 (PDF 다운로드/파싱 생략)
+@app.post("/upload/chunks")
+async def chunk_upload(request: ChunksIn):
+    # PyPDFLoader와 같은 메타데이터 형식 (page는 0부터)
+    chunks = [
+        Document(page_content=c.text, metadata={"page": c.page - 1, "chunk": c.index})
+        for c in request.chunks
+    ]
+    initial_state: GraphState = {"pdf_id": request.pdf_id, "chunks": chunks}
+    final_state = await chunk_graph.ainvoke(initial_state)
+
+    return {
+        "message": f"PDF uploaded successfully",
+        "pdf_id": final_state.get("pdf_id"),
+        "store_path": final_state.get("store_path"),
+    }
+
+
+# 같은 PDF(내용 해시 일치)로 이미 인덱싱된 제품의 벡터스토어를 복사 (임베딩 생략)
+@app.post("/link")
+async def link(request: LinkIn):
+    source_path = os.path.join(STORES_DIR, str(request.source_pdf_id))
+    if not os.path.exists(source_path):
+        raise HTTPException(status_code=404, detail=f"PDF {request.source_pdf_id}에 해당하는 저장소가 존재하지 않습니다.")
+
+    path = os.path.join(STORES_DIR, str(request.pdf_id))
+    shutil.copytree(source_path, path, dirs_exist_ok=True)
+
+    return {
+        "message": f"PDF linked successfully",
+        "pdf_id": request.pdf_id,
+        "store_path": path,
+    }
+
+
 @app.post("/chat")
 async def chat(request: ChatIn):
+    state = to_query_state(request)
+
+    # 그래프 실행
+    result = await query_graph.ainvoke(state)
+
+    return result["answer"]
+
+
+@app.post("/chat/stream")
+async def chat_stream(request: ChatIn):
+    state = to_query_state(request)
+
+    # generate_answer 노드의 LLM 토큰만 SSE data 이벤트로 흘려보냄 (줄바꿈/앞 공백 보존을 위해 JSON {"t": ...}로 감쌈)
+    async def event_stream():
+        async for chunk, metadata in query_graph.astream(state, stream_mode="messages"):
+            if metadata.get("langgraph_node") != "generate_answer" or not chunk.content:
+                continue
+            yield f"data: {json.dumps({'t': chunk.content}, ensure_ascii=False)}\n\n"
+
+    return StreamingResponse(event_stream(), media_type="text/event-stream")
+
+
+def to_query_state(request: ChatIn) -> QueryState:
     history: List[BaseMessage] = []
 
     # chatMessage → BaseMessage 변환 (여기서 바로 처리)
@@ -34,13 +96,8 @@ async def chat(request: ChatIn):
             elif role == "bot":
                 history.append(AIMessage(content=messages))
 
-    state: QueryState = {
+    return {
         "pdf_id": request.pdf_id,
         "question": request.question,
         "history": history,
     }
-
-    # 그래프 실행
-    result = await query_graph.ainvoke(state)
-
-    return result["answer"]
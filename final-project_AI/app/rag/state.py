@@ -5,7 +5,7 @@ from langchain_core.messages import BaseMessage
 
 
 class GraphState(TypedDict):
-    file_path: str
+    file_path: NotRequired[str]
     pdf_id: int
     temp_path: NotRequired[str] 
     documents: NotRequired[List]
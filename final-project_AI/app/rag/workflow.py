@@ -31,6 +31,17 @@ pdf_workflow.set_finish_point("save_vectorstore")
 
 pdf_graph = pdf_workflow.compile()
 
+# Chunk Workflow (백엔드에서 추출/분할한 청크를 바로 임베딩)
+chunk_workflow = StateGraph(GraphState)
+chunk_workflow.add_node("create_vectorstore", create_vectorstore)
+chunk_workflow.add_node("save_vectorstore", save_vectorstore)
+
+chunk_workflow.set_entry_point("create_vectorstore")
+chunk_workflow.add_edge("create_vectorstore", "save_vectorstore")
+chunk_workflow.set_finish_point("save_vectorstore")
+
+chunk_graph = chunk_workflow.compile()
+
 # Query Workflow
 query_workflow = StateGraph(QueryState)
 query_workflow.add_node("load_vectorstore", load_vectorstore)